@@ -0,0 +1,224 @@
+package com.chess.board;
+
+import com.chess.piece.PieceColor;
+
+public final class Attacks {
+    private static final int[][] KNIGHT_OFFSETS = {
+            {1, 2}, {2, 1}, {2, -1}, {1, -2},
+            {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+    private static final int[][] KING_OFFSETS = {
+            {1, 0}, {-1, 0}, {0, 1}, {0, -1},
+            {1, 1}, {1, -1}, {-1, 1}, {-1, -1}
+    };
+    private static final int[][] LIGHT_PAWN_CAPTURE_OFFSETS = {{-1, 1}, {1, 1}};
+    private static final int[][] DARK_PAWN_CAPTURE_OFFSETS = {{-1, -1}, {1, -1}};
+
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    // found once by random trial; any collision-free multiplier per square works
+    private static final long[] ROOK_MAGICS = {
+            0x1080002080400010L, 0x54C0004290006004L, 0x0A00084020801200L, 0x0200100408220040L,
+            0xC080040002800801L, 0x0300040028010082L, 0x8880010002004080L, 0x4100002480410012L,
+            0x0004800028804001L, 0x0000400020100041L, 0x0010802000100083L, 0x8182002200084010L,
+            0x8005000802110004L, 0x2260808002000400L, 0x0118800100020080L, 0x0002000401248052L,
+            0x0109010020488000L, 0x8001050040008020L, 0x0060014030080040L, 0x0C08008008100480L,
+            0x0002020020041008L, 0x8100818014000200L, 0x0000040012180150L, 0x28800A0002841143L,
+            0x8C00400080008032L, 0x0100200040005004L, 0x0000100080802000L, 0x12D0000900210010L,
+            0x1100080080800400L, 0x0C2A000A00103C08L, 0x0080D00400020128L, 0x8029000100108052L,
+            0xA04000408080002CL, 0x0042400082802010L, 0x0400801000802004L, 0x0081800802801000L,
+            0x0010800402800801L, 0x400C020080800400L, 0x0000080204000110L, 0x210105204200019CL,
+            0x0000400080208008L, 0x8200400083050024L, 0x2180804012020023L, 0x0108090010010020L,
+            0x0008000402004040L, 0x0001000400030008L, 0x0001080210040001L, 0x00050102A8460004L,
+            0x0840400080083080L, 0x1000E00840100540L, 0x08A300B020004300L, 0x2334080080100080L,
+            0x0000080004008080L, 0x8113000802040100L, 0x0000800100020080L, 0x9000010054009200L,
+            0x1800810015E20042L, 0x4000201900400081L, 0x0005082000114101L, 0x04042100D0000409L,
+            0x0002001085200802L, 0x8301000802040001L, 0x4024021000A14804L, 0x0080084080210406L
+    };
+
+    private static final long[] BISHOP_MAGICS = {
+            0x8040290602004108L, 0x2020C42092004006L, 0x0004442400480000L, 0x00580A1220815000L,
+            0x0004030811080800L, 0x000202100420000CL, 0x0021881808240000L, 0x2802004914012000L,
+            0x000020E002020844L, 0x8A20020252021E00L, 0x08220800B4008815L, 0x04060404008E1842L,
+            0x9800440422020202L, 0x0000110442400001L, 0x080104023824040CL, 0x8400020201610804L,
+            0x4004602048104108L, 0x001000040408404DL, 0x0028808408021100L, 0x120800040A404880L,
+            0x4808200402082002L, 0x0001800101600600L, 0x200100008C01A004L, 0x8178200049141004L,
+            0x4111040210208212L, 0x4830B00004044082L, 0x1800300048004140L, 0x200108005C004190L,
+            0x0050040003802100L, 0x0008088021300402L, 0x0218020415014140L, 0x0254050400844108L,
+            0x1411900800405840L, 0x02A1102A80888829L, 0x4601280801040422L, 0x00062008001101D0L,
+            0x0808010040100802L, 0x0C10004201404100L, 0x80084109250C0081L, 0x0100820848420100L,
+            0x00C0841108084002L, 0x0800480208041004L, 0x0024A0140A009001L, 0x8040034208008080L,
+            0x0040400109088200L, 0x1040149080808104L, 0x0060548492003080L, 0x0208280508400022L,
+            0x00C0820820848200L, 0x9010840108822040L, 0x8010402402482000L, 0x101214A020881080L,
+            0x051002D0E0220202L, 0x0000102001610001L, 0x2010A00810808008L, 0xA002080141020002L,
+            0x6020138088201040L, 0x0000A10082100200L, 0x0010000104010400L, 0x0020000020411084L,
+            0x0200080820204110L, 0x0002441011302320L, 0x0100100408080050L, 0x1010B00080848A00L
+    };
+
+    private static final long FILE_A = 0x0101_0101_0101_0101L;
+    private static final long FILE_H = FILE_A << 7;
+
+    private static final long[] KNIGHT_ATTACKS = new long[Bitboards.SQUARE_COUNT];
+    private static final long[] KING_ATTACKS = new long[Bitboards.SQUARE_COUNT];
+    private static final long[][] PAWN_ATTACKS = new long[PieceColor.values().length][Bitboards.SQUARE_COUNT];
+
+    private static final long[][] BETWEEN = new long[Bitboards.SQUARE_COUNT][Bitboards.SQUARE_COUNT];
+    private static final long[][] LINE = new long[Bitboards.SQUARE_COUNT][Bitboards.SQUARE_COUNT];
+
+    private static final long[] ROOK_MASKS = new long[Bitboards.SQUARE_COUNT];
+    private static final int[] ROOK_SHIFTS = new int[Bitboards.SQUARE_COUNT];
+    private static final long[][] ROOK_TABLE = new long[Bitboards.SQUARE_COUNT][];
+
+    private static final long[] BISHOP_MASKS = new long[Bitboards.SQUARE_COUNT];
+    private static final int[] BISHOP_SHIFTS = new int[Bitboards.SQUARE_COUNT];
+    private static final long[][] BISHOP_TABLE = new long[Bitboards.SQUARE_COUNT][];
+
+    static {
+        for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+            KNIGHT_ATTACKS[square] = leaperAttacks(square, KNIGHT_OFFSETS);
+            KING_ATTACKS[square] = leaperAttacks(square, KING_OFFSETS);
+            PAWN_ATTACKS[PieceColor.LIGHT.ordinal()][square] = leaperAttacks(square, LIGHT_PAWN_CAPTURE_OFFSETS);
+            PAWN_ATTACKS[PieceColor.DARK.ordinal()][square] = leaperAttacks(square, DARK_PAWN_CAPTURE_OFFSETS);
+            initMagic(square, ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_TABLE);
+            initMagic(square, BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_TABLE);
+        }
+        for (int from = 0; from < Bitboards.SQUARE_COUNT; from++) {
+            for (int to = 0; to < Bitboards.SQUARE_COUNT; to++) {
+                initLine(from, to);
+            }
+        }
+    }
+
+    private Attacks() {
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    public static long pawnAttacks(PieceColor color, int square) {
+        return PAWN_ATTACKS[color.ordinal()][square];
+    }
+
+    // every square attacked by a set of pawns at once, masking the shifts that wrap around the board edge
+    public static long allPawnAttacks(PieceColor color, long pawns) {
+        return color == PieceColor.LIGHT
+                ? ((pawns << 7) & ~FILE_H) | ((pawns << 9) & ~FILE_A)
+                : ((pawns >>> 9) & ~FILE_H) | ((pawns >>> 7) & ~FILE_A);
+    }
+
+    public static long rookAttacks(int square, long occupancy) {
+        int index = (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square]);
+        return ROOK_TABLE[square][index];
+    }
+
+    public static long bishopAttacks(int square, long occupancy) {
+        int index = (int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square]);
+        return BISHOP_TABLE[square][index];
+    }
+
+    public static long queenAttacks(int square, long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    // squares strictly between two aligned squares, empty when they share no rank, file or diagonal
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    // the whole rank, file or diagonal through two aligned squares, empty otherwise
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    private static void initLine(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        long fromBit = Bitboards.bit(from);
+        long toBit = Bitboards.bit(to);
+        if ((rookAttacks(from, 0L) & toBit) != 0) {
+            BETWEEN[from][to] = rookAttacks(from, toBit) & rookAttacks(to, fromBit);
+            LINE[from][to] = (rookAttacks(from, 0L) & rookAttacks(to, 0L)) | fromBit | toBit;
+        } else if ((bishopAttacks(from, 0L) & toBit) != 0) {
+            BETWEEN[from][to] = bishopAttacks(from, toBit) & bishopAttacks(to, fromBit);
+            LINE[from][to] = (bishopAttacks(from, 0L) & bishopAttacks(to, 0L)) | fromBit | toBit;
+        }
+    }
+
+    private static void initMagic(int square, int[][] directions, long[] masks, long[] magics, int[] shifts,
+                                  long[][] tables) {
+        long mask = relevantOccupancyMask(square, directions);
+        int bits = Long.bitCount(mask);
+        long[] table = new long[1 << bits];
+
+        long subset = 0L;
+        do {
+            int index = (int) ((subset * magics[square]) >>> (64 - bits));
+            long attacks = slidingAttacks(square, subset, directions);
+            if (table[index] != 0L && table[index] != attacks) {
+                throw new IllegalStateException("Magic number collision on square " + square);
+            }
+            table[index] = attacks;
+            subset = (subset - mask) & mask;
+        } while (subset != 0L);
+
+        masks[square] = mask;
+        shifts[square] = 64 - bits;
+        tables[square] = table;
+    }
+
+    private static long leaperAttacks(int square, int[][] offsets) {
+        long attacks = 0L;
+        for (int[] offset : offsets) {
+            int file = Bitboards.fileOf(square) + offset[0];
+            int rank = Bitboards.rankOf(square) + offset[1];
+            if (onBoard(file, rank)) {
+                attacks |= Bitboards.bit(Bitboards.squareIndex(file, rank));
+            }
+        }
+        return attacks;
+    }
+
+    private static long relevantOccupancyMask(int square, int[][] directions) {
+        long mask = 0L;
+        for (int[] direction : directions) {
+            int file = Bitboards.fileOf(square) + direction[0];
+            int rank = Bitboards.rankOf(square) + direction[1];
+            // edge squares never block anything beyond them, so they are left out of the mask
+            while (onBoard(file + direction[0], rank + direction[1])) {
+                mask |= Bitboards.bit(Bitboards.squareIndex(file, rank));
+                file += direction[0];
+                rank += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    private static long slidingAttacks(int square, long occupancy, int[][] directions) {
+        long attacks = 0L;
+        for (int[] direction : directions) {
+            int file = Bitboards.fileOf(square) + direction[0];
+            int rank = Bitboards.rankOf(square) + direction[1];
+            while (onBoard(file, rank)) {
+                long target = Bitboards.bit(Bitboards.squareIndex(file, rank));
+                attacks |= target;
+                if ((occupancy & target) != 0) {
+                    break;
+                }
+                file += direction[0];
+                rank += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean onBoard(int file, int rank) {
+        return file >= 0 && file < 8 && rank >= 0 && rank < 8;
+    }
+}
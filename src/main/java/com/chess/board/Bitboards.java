@@ -0,0 +1,40 @@
+package com.chess.board;
+
+import com.chess.common.Location;
+
+public final class Bitboards {
+    public static final int SQUARE_COUNT = 64;
+    public static final long EMPTY = 0L;
+    public static final long DARK_SQUARES = 0xAA55_AA55_AA55_AA55L;
+
+    private Bitboards() {
+    }
+
+    public static int squareIndex(Location location) {
+        return location.getIndex();
+    }
+
+    public static int squareIndex(int file, int rank) {
+        return (rank << 3) | file;
+    }
+
+    public static int fileOf(int square) {
+        return square & 7;
+    }
+
+    public static int rankOf(int square) {
+        return square >>> 3;
+    }
+
+    public static Location location(int square) {
+        return Location.of(square);
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public static boolean contains(long bitboard, int square) {
+        return (bitboard & (1L << square)) != 0;
+    }
+}
@@ -3,9 +3,11 @@ package com.chess.board;
 import com.chess.common.File;
 import com.chess.common.Location;
 import com.chess.piece.AbstractPiece;
+import com.chess.move.Move;
 import com.chess.move.MoveRecord;
 import com.chess.piece.PieceColor;
 import com.chess.piece.PieceFactory;
+import com.chess.piece.PieceType;
 import com.chess.squares.Square;
 import com.chess.squares.SquareColor;
 
@@ -16,48 +18,407 @@ import java.util.Map;
 
 public class Board {
     private static final Integer BOARD_LENGTH = 8;
-    private final Map<Location, Square> locationSquareMap;
+    public static final int NO_SQUARE = -1;
+    public static final int FIFTY_MOVE_PLIES = 100;
+    // a power of two above the fifty-move window, which is as far back as a repetition can lie
+    private static final int KEY_HISTORY_SIZE = 1 << 7;
+    private static final File[] FILES = File.values();
+    // built on first use; moves and search go through indexedSquares
+    private Map<Location, Square> locationSquareMap;
     Square[][] boardSquares = new Square[BOARD_LENGTH][BOARD_LENGTH];
+    private final Square[] indexedSquares = new Square[Bitboards.SQUARE_COUNT];
 
-    private final List<AbstractPiece> lightPieces = new ArrayList<>();
-    private final List<AbstractPiece> darkPieces = new ArrayList<>();
-    private MoveRecord lastMove;
+    private final long[][] pieceBitboards = new long[PieceColor.values().length][PieceType.values().length];
+    private final long[] colorBitboards = new long[PieceColor.values().length];
+    private long occupiedBitboard;
 
+    private final List<AbstractPiece> lightPieces = new ArrayList<>(16);
+    private final List<AbstractPiece> darkPieces = new ArrayList<>(16);
+    private MoveRecord lastMove;
+    private PieceColor sideToMove = PieceColor.LIGHT;
+    private int castlingRights;
+    private int enPassantSquare = NO_SQUARE;
+    private int halfmoveClock;
+    private int fullmoveNumber = 1;
+    private long zobristKey;
+    private long pawnKey;
+    // keys of the positions left by each move, indexed by ply modulo the ring size
+    private final long[] keyHistory = new long[KEY_HISTORY_SIZE];
+    private int historyPly;
+    private final long[] attackMaps = new long[PieceColor.values().length];
+    // one bit per color, cleared whenever a piece changes
+    private int freshAttackMaps;
+    private int middlegameScore;
+    private int endgameScore;
+    private int phase;
 
     public Board() {
-        locationSquareMap = new HashMap<>();
+        this(PieceFactory.createInitialPlacement());
+    }
 
-        Map<Location, AbstractPiece> pieces = PieceFactory.getPieces();
+    public Board(Map<Location, AbstractPiece> pieces) {
+        this(toPlacement(pieces));
+    }
 
+    // pieces indexed by square, a1 first; null for an empty square
+    Board(AbstractPiece[] placement) {
         for (int i = 0; i < boardSquares.length; i++) {
             int column = 0;
             SquareColor currentColor = (i % 2 == 0) ? SquareColor.LIGHT : SquareColor.DARK;
 
-            for (File file : File.values()) {
-                Square newSquare = new Square(currentColor, new Location(file, BOARD_LENGTH - i));
-                if (pieces.containsKey(newSquare.getLocation())) {
-                    AbstractPiece piece = pieces.get(newSquare.getLocation());
-                    newSquare.setCurrentPiece(piece);
-                    newSquare.setOccupied(true);
-                    piece.setCurrentSquare(newSquare);
-                    if (piece.getPieceColor().equals(PieceColor.DARK)) {
-                        darkPieces.add(piece);
-                    } else {
-                        lightPieces.add(piece);
-                    }
-                }
-
-
-                locationSquareMap.put(newSquare.getLocation(), newSquare);
+            for (File file : FILES) {
+                Square newSquare = new Square(currentColor, Location.of(file, BOARD_LENGTH - i));
+                newSquare.setBoard(this);
                 boardSquares[i][column] = newSquare;
+                indexedSquares[Bitboards.squareIndex(newSquare.getLocation())] = newSquare;
                 currentColor = (currentColor == SquareColor.DARK) ? SquareColor.LIGHT : SquareColor.DARK;
                 column++;
             }
 
         }
+        placePieces(placement);
+    }
+
+    // back to the starting position on the same squares, so a reused board only allocates its 32 pieces
+    public void reset() {
+        for (Square square : indexedSquares) {
+            AbstractPiece piece = square.getCurrentPiece();
+            if (piece != null) {
+                piece.setCurrentSquare(null);
+                square.reset();
+            }
+        }
+        lightPieces.clear();
+        darkPieces.clear();
+        lastMove = null;
+        setSideToMove(PieceColor.LIGHT);
+        updateEnPassantSquare(NO_SQUARE);
+        halfmoveClock = 0;
+        fullmoveNumber = 1;
+        historyPly = 0;
+        placePieces(PieceFactory.createInitialPlacement());
+    }
+
+    private void placePieces(AbstractPiece[] placement) {
+        for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+            AbstractPiece piece = placement[square];
+            if (piece == null) {
+                continue;
+            }
+            putPiece(indexedSquares[square], piece);
+            if (piece.getPieceColor() == PieceColor.DARK) {
+                darkPieces.add(piece);
+            } else {
+                lightPieces.add(piece);
+            }
+        }
+        updateCastlingRights(castlingRightsFromPlacement());
+    }
+
+    private static AbstractPiece[] toPlacement(Map<Location, AbstractPiece> pieces) {
+        AbstractPiece[] placement = new AbstractPiece[Bitboards.SQUARE_COUNT];
+        pieces.forEach((location, piece) -> placement[Bitboards.squareIndex(location)] = piece);
+        return placement;
+    }
+
+    // for positions set up from outside, such as FEN; rights without their king and rook at home are dropped
+    void setPositionState(PieceColor sideToMove, int castlingRights, int enPassantSquare, int halfmoveClock, int fullmoveNumber) {
+        setSideToMove(sideToMove);
+        updateCastlingRights(castlingRights & castlingRightsFromPlacement());
+        boolean capturable = enPassantSquare != NO_SQUARE
+                && (Attacks.pawnAttacks(sideToMove.opposite(), enPassantSquare)
+                & pieceBitboards[sideToMove.ordinal()][PieceType.PAWN.ordinal()]) != 0;
+        updateEnPassantSquare(capturable ? enPassantSquare : NO_SQUARE);
+        this.halfmoveClock = halfmoveClock;
+        this.fullmoveNumber = fullmoveNumber;
+    }
+
+    // a right is assumed while the king and rook still stand unmoved on their home squares
+    private int castlingRightsFromPlacement() {
+        int rights = CastlingRights.NONE;
+        for (PieceColor color : PieceColor.values()) {
+            int rank = color == PieceColor.LIGHT ? 0 : 7;
+            if (!isUnmoved(Bitboards.squareIndex(4, rank), color, PieceType.KING)) {
+                continue;
+            }
+            if (isUnmoved(Bitboards.squareIndex(7, rank), color, PieceType.ROOK)) {
+                rights |= CastlingRights.kingSide(color);
+            }
+            if (isUnmoved(Bitboards.squareIndex(0, rank), color, PieceType.ROOK)) {
+                rights |= CastlingRights.queenSide(color);
+            }
+        }
+        return rights;
+    }
+
+    private boolean isUnmoved(int square, PieceColor color, PieceType type) {
+        AbstractPiece piece = indexedSquares[square].getCurrentPiece();
+        return piece != null && piece.getPieceColor() == color && piece.getPieceType() == type && !piece.hasMoved();
+    }
+
+    public static Board fromBitboards(long[][] bitboards) {
+        AbstractPiece[] pieces = new AbstractPiece[Bitboards.SQUARE_COUNT];
+        long seen = Bitboards.EMPTY;
+        for (PieceColor color : PieceColor.values()) {
+            for (PieceType type : PieceType.values()) {
+                long bitboard = bitboards[color.ordinal()][type.ordinal()];
+                if ((seen & bitboard) != 0) {
+                    throw new IllegalArgumentException("Bitboards overlap on the same square");
+                }
+                seen |= bitboard;
+                while (bitboard != 0) {
+                    int square = Long.numberOfTrailingZeros(bitboard);
+                    pieces[square] = PieceFactory.create(type, color);
+                    bitboard &= bitboard - 1;
+                }
+            }
+        }
+        return new Board(pieces);
+    }
+
+    public Board copy() {
+        AbstractPiece[] pieces = new AbstractPiece[Bitboards.SQUARE_COUNT];
+        long occupied = occupiedBitboard;
+        while (occupied != 0) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            AbstractPiece original = indexedSquares[square].getCurrentPiece();
+            AbstractPiece clone = PieceFactory.create(original.getPieceType(), original.getPieceColor());
+            clone.setHasMoved(original.hasMoved());
+            pieces[square] = clone;
+            occupied &= occupied - 1;
+        }
+
+        Board copy = new Board(pieces);
+        copy.setSideToMove(sideToMove);
+        copy.updateCastlingRights(castlingRights);
+        copy.updateEnPassantSquare(enPassantSquare);
+        copy.halfmoveClock = halfmoveClock;
+        copy.fullmoveNumber = fullmoveNumber;
+        System.arraycopy(keyHistory, 0, copy.keyHistory, 0, KEY_HISTORY_SIZE);
+        copy.historyPly = historyPly;
+        // the records hold this board's pieces, so the copy starts without them and cannot unmake past this point
+        return copy;
+    }
+
+    public void onPieceChanged(Square square, AbstractPiece previousPiece, AbstractPiece newPiece) {
+        int index = square.getLocation().getIndex();
+        freshAttackMaps = 0;
+        long squareBit = Bitboards.bit(index);
+        if (previousPiece != null) {
+            int color = previousPiece.getPieceColor().ordinal();
+            pieceBitboards[color][previousPiece.getPieceType().ordinal()] &= ~squareBit;
+            colorBitboards[color] &= ~squareBit;
+            occupiedBitboard &= ~squareBit;
+            zobristKey ^= Zobrist.piece(previousPiece.getPieceColor(), previousPiece.getPieceType(), index);
+            if (previousPiece.getPieceType() == PieceType.PAWN) {
+                pawnKey ^= Zobrist.piece(previousPiece.getPieceColor(), PieceType.PAWN, index);
+            }
+            middlegameScore -= PieceSquareTables.middlegame(previousPiece.getPieceColor(), previousPiece.getPieceType(), index);
+            endgameScore -= PieceSquareTables.endgame(previousPiece.getPieceColor(), previousPiece.getPieceType(), index);
+            phase -= PieceSquareTables.phase(previousPiece.getPieceType());
+        }
+        if (newPiece != null) {
+            int color = newPiece.getPieceColor().ordinal();
+            pieceBitboards[color][newPiece.getPieceType().ordinal()] |= squareBit;
+            colorBitboards[color] |= squareBit;
+            occupiedBitboard |= squareBit;
+            zobristKey ^= Zobrist.piece(newPiece.getPieceColor(), newPiece.getPieceType(), index);
+            if (newPiece.getPieceType() == PieceType.PAWN) {
+                pawnKey ^= Zobrist.piece(newPiece.getPieceColor(), PieceType.PAWN, index);
+            }
+            middlegameScore += PieceSquareTables.middlegame(newPiece.getPieceColor(), newPiece.getPieceType(), index);
+            endgameScore += PieceSquareTables.endgame(newPiece.getPieceColor(), newPiece.getPieceType(), index);
+            phase += PieceSquareTables.phase(newPiece.getPieceType());
+        }
+    }
+
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    // covers pawns only, so positions that differ in piece placement share pawn-structure results
+    public long getPawnKey() {
+        return pawnKey;
+    }
+
+    public long computePawnKey() {
+        long key = 0L;
+        for (PieceColor color : PieceColor.values()) {
+            long pawns = pieceBitboards[color.ordinal()][PieceType.PAWN.ordinal()];
+            while (pawns != 0) {
+                key ^= Zobrist.piece(color, PieceType.PAWN, Long.numberOfTrailingZeros(pawns));
+                pawns &= pawns - 1;
+            }
+        }
+        return key;
+    }
+
+    public long computeZobristKey() {
+        long key = 0L;
+        for (PieceColor color : PieceColor.values()) {
+            for (PieceType type : PieceType.values()) {
+                long bitboard = pieceBitboards[color.ordinal()][type.ordinal()];
+                while (bitboard != 0) {
+                    key ^= Zobrist.piece(color, type, Long.numberOfTrailingZeros(bitboard));
+                    bitboard &= bitboard - 1;
+                }
+            }
+        }
+        if (sideToMove == PieceColor.DARK) {
+            key ^= Zobrist.sideToMove();
+        }
+        key ^= Zobrist.castling(castlingRights);
+        if (enPassantSquare != NO_SQUARE) {
+            key ^= Zobrist.enPassant(enPassantSquare);
+        }
+        return key;
+    }
+
+    // running material and piece-square totals, positive when White is better
+    public int getMiddlegameScore() {
+        return middlegameScore;
+    }
+
+    public int getEndgameScore() {
+        return endgameScore;
+    }
+
+    // can exceed MAX_PHASE after promotions, callers clamp it
+    public int getPhase() {
+        return phase;
+    }
+
+    public long getPieces(PieceColor color, PieceType type) {
+        return pieceBitboards[color.ordinal()][type.ordinal()];
+    }
+
+    public long getOccupancy(PieceColor color) {
+        return colorBitboards[color.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return occupiedBitboard;
+    }
+
+    public int getKingSquare(PieceColor color) {
+        long king = pieceBitboards[color.ordinal()][PieceType.KING.ordinal()];
+        return king == 0 ? -1 : Long.numberOfTrailingZeros(king);
+    }
+
+    public long attackersTo(int square, long occupancy) {
+        long[] light = pieceBitboards[PieceColor.LIGHT.ordinal()];
+        long[] dark = pieceBitboards[PieceColor.DARK.ordinal()];
+        long rooksQueens = light[PieceType.ROOK.ordinal()] | light[PieceType.QUEEN.ordinal()]
+                | dark[PieceType.ROOK.ordinal()] | dark[PieceType.QUEEN.ordinal()];
+        long bishopsQueens = light[PieceType.BISHOP.ordinal()] | light[PieceType.QUEEN.ordinal()]
+                | dark[PieceType.BISHOP.ordinal()] | dark[PieceType.QUEEN.ordinal()];
+
+        return (Attacks.pawnAttacks(PieceColor.DARK, square) & light[PieceType.PAWN.ordinal()])
+                | (Attacks.pawnAttacks(PieceColor.LIGHT, square) & dark[PieceType.PAWN.ordinal()])
+                | (Attacks.knightAttacks(square) & (light[PieceType.KNIGHT.ordinal()] | dark[PieceType.KNIGHT.ordinal()]))
+                | (Attacks.kingAttacks(square) & (light[PieceType.KING.ordinal()] | dark[PieceType.KING.ordinal()]))
+                | (Attacks.bishopAttacks(square, occupancy) & bishopsQueens)
+                | (Attacks.rookAttacks(square, occupancy) & rooksQueens);
+    }
+
+    public long attackersOf(int square, PieceColor color) {
+        return attackersTo(square, occupiedBitboard) & colorBitboards[color.ordinal()];
+    }
+
+    // all squares the color attacks, built once per position and reused until a piece changes
+    public long getAttacks(PieceColor color) {
+        int colorBit = 1 << color.ordinal();
+        if ((freshAttackMaps & colorBit) == 0) {
+            attackMaps[color.ordinal()] = computeAttacks(color, occupiedBitboard);
+            freshAttackMaps |= colorBit;
+        }
+        return attackMaps[color.ordinal()];
+    }
+
+    public long computeAttacks(PieceColor color, long occupancy) {
+        long[] pieces = pieceBitboards[color.ordinal()];
+        long attacks = Attacks.allPawnAttacks(color, pieces[PieceType.PAWN.ordinal()]);
+
+        long knights = pieces[PieceType.KNIGHT.ordinal()];
+        while (knights != 0) {
+            attacks |= Attacks.knightAttacks(Long.numberOfTrailingZeros(knights));
+            knights &= knights - 1;
+        }
+        long diagonal = pieces[PieceType.BISHOP.ordinal()] | pieces[PieceType.QUEEN.ordinal()];
+        while (diagonal != 0) {
+            attacks |= Attacks.bishopAttacks(Long.numberOfTrailingZeros(diagonal), occupancy);
+            diagonal &= diagonal - 1;
+        }
+        long orthogonal = pieces[PieceType.ROOK.ordinal()] | pieces[PieceType.QUEEN.ordinal()];
+        while (orthogonal != 0) {
+            attacks |= Attacks.rookAttacks(Long.numberOfTrailingZeros(orthogonal), occupancy);
+            orthogonal &= orthogonal - 1;
+        }
+        long king = pieces[PieceType.KING.ordinal()];
+        if (king != 0) {
+            attacks |= Attacks.kingAttacks(Long.numberOfTrailingZeros(king));
+        }
+        return attacks;
+    }
+
+    public boolean isAttacked(int square, PieceColor byColor) {
+        return Bitboards.contains(getAttacks(byColor), square);
+    }
+
+    // a single attackersTo lookup is cheaper than building the whole map for one square
+    public boolean isInCheck(PieceColor color) {
+        int king = getKingSquare(color);
+        return king >= 0 && attackersOf(king, color.opposite()) != 0;
+    }
+
+    public long getPinnedPieces(PieceColor color) {
+        int king = getKingSquare(color);
+        if (king < 0) {
+            return Bitboards.EMPTY;
+        }
+
+        long[] enemy = pieceBitboards[color.opposite().ordinal()];
+        long snipers = (Attacks.rookAttacks(king, Bitboards.EMPTY)
+                & (enemy[PieceType.ROOK.ordinal()] | enemy[PieceType.QUEEN.ordinal()]))
+                | (Attacks.bishopAttacks(king, Bitboards.EMPTY)
+                & (enemy[PieceType.BISHOP.ordinal()] | enemy[PieceType.QUEEN.ordinal()]));
+
+        long pinned = Bitboards.EMPTY;
+        while (snipers != 0) {
+            int sniper = Long.numberOfTrailingZeros(snipers);
+            long blockers = Attacks.between(king, sniper) & occupiedBitboard;
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & colorBitboards[color.ordinal()];
+            }
+            snipers &= snipers - 1;
+        }
+        return pinned;
+    }
+
+    public long[][] toBitboards() {
+        long[][] copy = new long[pieceBitboards.length][];
+        for (int color = 0; color < pieceBitboards.length; color++) {
+            copy[color] = pieceBitboards[color].clone();
+        }
+        return copy;
+    }
+
+    public Square getSquare(int square) {
+        return indexedSquares[square];
+    }
+
+    public Square getSquare(Location location) {
+        return indexedSquares[Bitboards.squareIndex(location)];
     }
 
     public Map<Location, Square> getLocationSquareMap() {
+        if (locationSquareMap == null) {
+            Map<Location, Square> squares = new HashMap<>(128);
+            for (Square square : indexedSquares) {
+                squares.put(square.getLocation(), square);
+            }
+            locationSquareMap = squares;
+        }
         return locationSquareMap;
     }
 
@@ -73,8 +434,268 @@ public class Board {
         return lastMove;
     }
 
+    // for moves played through the pieces' own makeMove, which leave the position state to the board
     public void setLastMove(MoveRecord lastMove) {
         this.lastMove = lastMove;
+        if (lastMove == null) {
+            updateEnPassantSquare(NO_SQUARE);
+            return;
+        }
+        int from = lastMove.getFrom().getIndex();
+        int to = lastMove.getTo().getIndex();
+        updateCastlingRights(CastlingRights.afterMove(castlingRights, from, to));
+        updateEnPassantSquare(lastMove.isPawnDoubleAdvance()
+                ? enPassantTarget(lastMove.getPiece().getPieceColor(), from, to) : NO_SQUARE);
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public boolean hasCastlingRight(int right) {
+        return (castlingRights & right) != 0;
+    }
+
+    // the square a pawn just skipped, set only while an enemy pawn is placed to capture on it
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    // plies since the last capture or pawn move
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    // earlier occurrences of the current position; only positions since the last capture or pawn move can match,
+    // and only every second one has the same side to move
+    public int getRepetitionCount() {
+        int window = Math.min(Math.min(halfmoveClock, historyPly), KEY_HISTORY_SIZE - 1);
+        int count = 0;
+        for (int back = 4; back <= window; back += 2) {
+            if (keyHistory[(historyPly - back) & (KEY_HISTORY_SIZE - 1)] == zobristKey) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // a single earlier occurrence is enough inside a search, since the side to move could repeat it again
+    public boolean isRepetition() {
+        return getRepetitionCount() > 0;
+    }
+
+    public boolean isThreefoldRepetition() {
+        return getRepetitionCount() >= 2;
+    }
+
+    public boolean isFiftyMoveRule() {
+        return halfmoveClock >= FIFTY_MOVE_PLIES;
+    }
+
+    // no mate is possible: bare kings, a single minor piece, or only bishops that all stand on one square colour
+    public boolean isInsufficientMaterial() {
+        long[] light = pieceBitboards[PieceColor.LIGHT.ordinal()];
+        long[] dark = pieceBitboards[PieceColor.DARK.ordinal()];
+        long heavyOrPawns = light[PieceType.PAWN.ordinal()] | light[PieceType.ROOK.ordinal()] | light[PieceType.QUEEN.ordinal()]
+                | dark[PieceType.PAWN.ordinal()] | dark[PieceType.ROOK.ordinal()] | dark[PieceType.QUEEN.ordinal()];
+        if (heavyOrPawns != 0) {
+            return false;
+        }
+
+        long knights = light[PieceType.KNIGHT.ordinal()] | dark[PieceType.KNIGHT.ordinal()];
+        long bishops = light[PieceType.BISHOP.ordinal()] | dark[PieceType.BISHOP.ordinal()];
+        if (Long.bitCount(knights | bishops) <= 1) {
+            return true;
+        }
+        return knights == 0 && ((bishops & Bitboards.DARK_SQUARES) == 0 || (bishops & ~Bitboards.DARK_SQUARES) == 0);
+    }
+
+    public PieceColor getSideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(PieceColor sideToMove) {
+        if (this.sideToMove != sideToMove) {
+            zobristKey ^= Zobrist.sideToMove();
+        }
+        this.sideToMove = sideToMove;
+    }
+
+    public MoveRecord make(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        Square source = indexedSquares[from];
+        Square destination = indexedSquares[to];
+        AbstractPiece piece = source.getCurrentPiece();
+        boolean pieceHadMoved = piece.hasMoved();
+        int previousCastlingRights = castlingRights;
+        int previousEnPassantSquare = enPassantSquare;
+        int previousHalfmoveClock = halfmoveClock;
+        keyHistory[historyPly++ & (KEY_HISTORY_SIZE - 1)] = zobristKey;
+
+        AbstractPiece captured = null;
+        if (Move.isCapture(move)) {
+            captured = removePiece(Move.isEnPassant(move) ? enPassantVictimSquare(from, to) : destination);
+        }
+
+        removePiece(source);
+        AbstractPiece promotionPiece = null;
+        if (Move.isPromotion(move)) {
+            promotionPiece = PieceFactory.create(Move.promotionType(move), piece.getPieceColor());
+            promotionPiece.setHasMoved(true);
+            putPiece(destination, promotionPiece);
+        } else {
+            putPiece(destination, piece);
+        }
+        piece.setHasMoved(true);
+
+        boolean rookHadMoved = false;
+        if (Move.isCastling(move)) {
+            AbstractPiece rook = removePiece(castlingRookSource(move));
+            rookHadMoved = rook.hasMoved();
+            putPiece(castlingRookDestination(move), rook);
+            rook.setHasMoved(true);
+        }
+
+        MoveRecord record = MoveRecord.builder(piece, source.getLocation(), destination.getLocation())
+                .capturedPiece(captured)
+                .pawnDoubleAdvance(Move.flags(move) == Move.DOUBLE_PAWN_PUSH)
+                .enPassantCapture(Move.isEnPassant(move))
+                .castling(Move.isCastling(move))
+                .promotionPiece(promotionPiece)
+                .move(move)
+                .pieceHadMoved(pieceHadMoved)
+                .rookHadMoved(rookHadMoved)
+                .previousMove(lastMove)
+                .previousCastlingRights(previousCastlingRights)
+                .previousEnPassantSquare(previousEnPassantSquare)
+                .previousHalfmoveClock(previousHalfmoveClock)
+                .build();
+        lastMove = record;
+        updateCastlingRights(CastlingRights.afterMove(castlingRights, from, to));
+        updateEnPassantSquare(Move.flags(move) == Move.DOUBLE_PAWN_PUSH
+                ? enPassantTarget(piece.getPieceColor(), from, to) : NO_SQUARE);
+        halfmoveClock = captured != null || piece.getPieceType() == PieceType.PAWN ? 0 : halfmoveClock + 1;
+        if (piece.getPieceColor() == PieceColor.DARK) {
+            fullmoveNumber++;
+        }
+        sideToMove = sideToMove.opposite();
+        zobristKey ^= Zobrist.sideToMove();
+        return record;
+    }
+
+    public void unmake(MoveRecord record) {
+        int move = record.getMove();
+        int from = Move.from(move);
+        int to = Move.to(move);
+        AbstractPiece piece = record.getPiece();
+
+        if (Move.isCastling(move)) {
+            AbstractPiece rook = removePiece(castlingRookDestination(move));
+            putPiece(castlingRookSource(move), rook);
+            rook.setHasMoved(record.rookHadMoved());
+        }
+
+        removePiece(indexedSquares[to]);
+        putPiece(indexedSquares[from], piece);
+        piece.setHasMoved(record.pieceHadMoved());
+
+        AbstractPiece captured = record.getCapturedPiece();
+        if (captured != null) {
+            putPiece(Move.isEnPassant(move) ? enPassantVictimSquare(from, to) : indexedSquares[to], captured);
+        }
+
+        lastMove = record.getPreviousMove();
+        updateCastlingRights(record.getPreviousCastlingRights());
+        updateEnPassantSquare(record.getPreviousEnPassantSquare());
+        halfmoveClock = record.getPreviousHalfmoveClock();
+        historyPly--;
+        if (piece.getPieceColor() == PieceColor.DARK) {
+            fullmoveNumber--;
+        }
+        sideToMove = piece.getPieceColor();
+        zobristKey ^= Zobrist.sideToMove();
+    }
+
+    // passes the turn; the returned record is what unmakeNullMove needs to restore
+    public MoveRecord makeNullMove() {
+        MoveRecord record = MoveRecord.builder(null, null, null)
+                .previousMove(lastMove)
+                .previousEnPassantSquare(enPassantSquare)
+                .previousHalfmoveClock(halfmoveClock)
+                .build();
+        keyHistory[historyPly++ & (KEY_HISTORY_SIZE - 1)] = zobristKey;
+        // repetitions are not looked for across a passed turn
+        halfmoveClock = 0;
+        lastMove = null;
+        updateEnPassantSquare(NO_SQUARE);
+        sideToMove = sideToMove.opposite();
+        zobristKey ^= Zobrist.sideToMove();
+        return record;
+    }
+
+    public void unmakeNullMove(MoveRecord record) {
+        lastMove = record.getPreviousMove();
+        updateEnPassantSquare(record.getPreviousEnPassantSquare());
+        halfmoveClock = record.getPreviousHalfmoveClock();
+        historyPly--;
+        sideToMove = sideToMove.opposite();
+        zobristKey ^= Zobrist.sideToMove();
+    }
+
+    private int enPassantTarget(PieceColor color, int from, int to) {
+        int target = (from + to) >>> 1;
+        long capturers = Attacks.pawnAttacks(color, target) & pieceBitboards[color.opposite().ordinal()][PieceType.PAWN.ordinal()];
+        return capturers != 0 ? target : NO_SQUARE;
+    }
+
+    private void updateCastlingRights(int rights) {
+        zobristKey ^= Zobrist.castling(castlingRights) ^ Zobrist.castling(rights);
+        castlingRights = rights;
+    }
+
+    private void updateEnPassantSquare(int square) {
+        if (enPassantSquare != NO_SQUARE) {
+            zobristKey ^= Zobrist.enPassant(enPassantSquare);
+        }
+        if (square != NO_SQUARE) {
+            zobristKey ^= Zobrist.enPassant(square);
+        }
+        enPassantSquare = square;
+    }
+
+    private Square enPassantVictimSquare(int from, int to) {
+        return indexedSquares[Bitboards.squareIndex(Bitboards.fileOf(to), Bitboards.rankOf(from))];
+    }
+
+    private Square castlingRookSource(int move) {
+        int to = Move.to(move);
+        return indexedSquares[Move.flags(move) == Move.KING_CASTLE ? to + 1 : to - 2];
+    }
+
+    private Square castlingRookDestination(int move) {
+        int to = Move.to(move);
+        return indexedSquares[Move.flags(move) == Move.KING_CASTLE ? to - 1 : to + 1];
+    }
+
+    private void putPiece(Square square, AbstractPiece piece) {
+        square.setCurrentPiece(piece);
+        square.setOccupied(true);
+        piece.setCurrentSquare(square);
+    }
+
+    private AbstractPiece removePiece(Square square) {
+        AbstractPiece piece = square.getCurrentPiece();
+        square.setCurrentPiece(null);
+        square.setOccupied(false);
+        if (piece != null) {
+            piece.setCurrentSquare(null);
+        }
+        return piece;
     }
 
     public void printBoard() {
@@ -0,0 +1,42 @@
+package com.chess.board;
+
+import com.chess.piece.PieceColor;
+
+import java.util.Arrays;
+
+public final class CastlingRights {
+    public static final int NONE = 0;
+    public static final int LIGHT_KING_SIDE = 1;
+    public static final int LIGHT_QUEEN_SIDE = 2;
+    public static final int DARK_KING_SIDE = 4;
+    public static final int DARK_QUEEN_SIDE = 8;
+    public static final int ALL = LIGHT_KING_SIDE | LIGHT_QUEEN_SIDE | DARK_KING_SIDE | DARK_QUEEN_SIDE;
+
+    // rights that survive a move touching the square, either leaving it or capturing on it
+    private static final int[] KEPT = new int[Bitboards.SQUARE_COUNT];
+
+    static {
+        Arrays.fill(KEPT, ALL);
+        KEPT[Bitboards.squareIndex(0, 0)] = ALL & ~LIGHT_QUEEN_SIDE;
+        KEPT[Bitboards.squareIndex(4, 0)] = ALL & ~(LIGHT_KING_SIDE | LIGHT_QUEEN_SIDE);
+        KEPT[Bitboards.squareIndex(7, 0)] = ALL & ~LIGHT_KING_SIDE;
+        KEPT[Bitboards.squareIndex(0, 7)] = ALL & ~DARK_QUEEN_SIDE;
+        KEPT[Bitboards.squareIndex(4, 7)] = ALL & ~(DARK_KING_SIDE | DARK_QUEEN_SIDE);
+        KEPT[Bitboards.squareIndex(7, 7)] = ALL & ~DARK_KING_SIDE;
+    }
+
+    private CastlingRights() {
+    }
+
+    public static int kingSide(PieceColor color) {
+        return color == PieceColor.LIGHT ? LIGHT_KING_SIDE : DARK_KING_SIDE;
+    }
+
+    public static int queenSide(PieceColor color) {
+        return color == PieceColor.LIGHT ? LIGHT_QUEEN_SIDE : DARK_QUEEN_SIDE;
+    }
+
+    public static int afterMove(int rights, int from, int to) {
+        return rights & KEPT[from] & KEPT[to];
+    }
+}
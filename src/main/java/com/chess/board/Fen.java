@@ -0,0 +1,229 @@
+package com.chess.board;
+
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceFactory;
+import com.chess.piece.PieceType;
+
+public final class Fen {
+    public static final String INITIAL = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    // indexed by PieceType ordinal
+    private static final String PIECE_LETTERS = "pnbrqk";
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private Fen() {
+    }
+
+    // one pass over the text; the clocks may be left off, as many sources do
+    public static Board parse(String fen) {
+        if (fen == null) {
+            throw new IllegalArgumentException("FEN cannot be null");
+        }
+        AbstractPiece[] placement = new AbstractPiece[Bitboards.SQUARE_COUNT];
+        int length = fen.length();
+        int index = skipSpaces(fen, 0);
+
+        int rank = 7;
+        int file = 0;
+        for (; index < length && fen.charAt(index) != ' '; index++) {
+            char c = fen.charAt(index);
+            if (c == '/') {
+                if (file != 8 || rank == 0) {
+                    throw invalid(fen, "rank " + (rank + 1) + " does not cover eight files");
+                }
+                rank--;
+                file = 0;
+            } else if (c >= '1' && c <= '8') {
+                file += c - '0';
+            } else {
+                int type = PIECE_LETTERS.indexOf(Character.toLowerCase(c));
+                if (type < 0 || file > 7) {
+                    throw invalid(fen, "unexpected '" + c + "' in piece placement");
+                }
+                if (PIECE_TYPES[type] == PieceType.PAWN && (rank == 0 || rank == 7)) {
+                    throw invalid(fen, "pawns cannot stand on the first or last rank");
+                }
+                PieceColor color = Character.isUpperCase(c) ? PieceColor.LIGHT : PieceColor.DARK;
+                placement[Bitboards.squareIndex(file++, rank)] = PieceFactory.create(PIECE_TYPES[type], color);
+            }
+            if (file > 8) {
+                throw invalid(fen, "rank " + (rank + 1) + " does not cover eight files");
+            }
+        }
+        if (rank != 0 || file != 8) {
+            throw invalid(fen, "piece placement does not cover eight ranks");
+        }
+
+        index = skipSpaces(fen, index);
+        if (index >= length || (fen.charAt(index) != 'w' && fen.charAt(index) != 'b')) {
+            throw invalid(fen, "side to move must be 'w' or 'b'");
+        }
+        PieceColor sideToMove = fen.charAt(index++) == 'w' ? PieceColor.LIGHT : PieceColor.DARK;
+
+        index = skipSpaces(fen, index);
+        int castlingRights = CastlingRights.NONE;
+        if (index < length && fen.charAt(index) == '-') {
+            index++;
+        } else {
+            for (; index < length && fen.charAt(index) != ' '; index++) {
+                switch (fen.charAt(index)) {
+                    case 'K':
+                        castlingRights |= CastlingRights.LIGHT_KING_SIDE;
+                        break;
+                    case 'Q':
+                        castlingRights |= CastlingRights.LIGHT_QUEEN_SIDE;
+                        break;
+                    case 'k':
+                        castlingRights |= CastlingRights.DARK_KING_SIDE;
+                        break;
+                    case 'q':
+                        castlingRights |= CastlingRights.DARK_QUEEN_SIDE;
+                        break;
+                    default:
+                        throw invalid(fen, "unexpected '" + fen.charAt(index) + "' in castling rights");
+                }
+            }
+        }
+
+        index = skipSpaces(fen, index);
+        int enPassantSquare = Board.NO_SQUARE;
+        if (index < length && fen.charAt(index) == '-') {
+            index++;
+        } else if (index + 1 < length) {
+            int epFile = fen.charAt(index) - 'a';
+            int epRank = fen.charAt(index + 1) - '1';
+            // the square sits behind the pawn that just made a double step, which must still be there
+            int expectedRank = sideToMove == PieceColor.LIGHT ? 5 : 2;
+            if (epFile < 0 || epFile > 7 || epRank != expectedRank) {
+                throw invalid(fen, "en passant square must be on the " + (sideToMove == PieceColor.LIGHT ? "sixth" : "third")
+                        + " rank");
+            }
+            enPassantSquare = Bitboards.squareIndex(epFile, epRank);
+            int forward = sideToMove == PieceColor.LIGHT ? -8 : 8;
+            AbstractPiece pusher = placement[enPassantSquare + forward];
+            if (pusher == null || pusher.getPieceType() != PieceType.PAWN || pusher.getPieceColor() == sideToMove
+                    || placement[enPassantSquare] != null || placement[enPassantSquare - forward] != null) {
+                throw invalid(fen, "no pawn can have just made a double step past the en passant square");
+            }
+            index += 2;
+        } else if (index < length) {
+            throw invalid(fen, "en passant square is incomplete");
+        }
+
+        index = skipSpaces(fen, index);
+        int halfmoveClock = 0;
+        int fullmoveNumber = 1;
+        if (index < length) {
+            int end = nextSpace(fen, index);
+            halfmoveClock = parseNumber(fen, index, end);
+            index = skipSpaces(fen, end);
+            if (index < length) {
+                end = nextSpace(fen, index);
+                fullmoveNumber = Math.max(1, parseNumber(fen, index, end));
+                index = skipSpaces(fen, end);
+            }
+        }
+        if (index < length) {
+            throw invalid(fen, "unexpected text after the move number");
+        }
+
+        Board board = new Board(placement);
+        for (PieceColor color : PieceColor.values()) {
+            if (Long.bitCount(board.getPieces(color, PieceType.KING)) != 1) {
+                throw invalid(fen, "each side needs exactly one king");
+            }
+        }
+        if (board.isInCheck(sideToMove.opposite())) {
+            throw invalid(fen, "the side not to move is in check");
+        }
+        board.setPositionState(sideToMove, castlingRights, enPassantSquare, halfmoveClock, fullmoveNumber);
+        return board;
+    }
+
+    public static String write(Board board) {
+        StringBuilder builder = new StringBuilder(90);
+        for (int rank = 7; rank >= 0; rank--) {
+            int empty = 0;
+            for (int file = 0; file < 8; file++) {
+                AbstractPiece piece = board.getSquare(Bitboards.squareIndex(file, rank)).getCurrentPiece();
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    builder.append(empty);
+                    empty = 0;
+                }
+                char letter = PIECE_LETTERS.charAt(piece.getPieceType().ordinal());
+                builder.append(piece.getPieceColor() == PieceColor.LIGHT ? Character.toUpperCase(letter) : letter);
+            }
+            if (empty > 0) {
+                builder.append(empty);
+            }
+            if (rank > 0) {
+                builder.append('/');
+            }
+        }
+
+        builder.append(board.getSideToMove() == PieceColor.LIGHT ? " w " : " b ");
+        int rights = board.getCastlingRights();
+        if (rights == CastlingRights.NONE) {
+            builder.append('-');
+        } else {
+            if ((rights & CastlingRights.LIGHT_KING_SIDE) != 0) {
+                builder.append('K');
+            }
+            if ((rights & CastlingRights.LIGHT_QUEEN_SIDE) != 0) {
+                builder.append('Q');
+            }
+            if ((rights & CastlingRights.DARK_KING_SIDE) != 0) {
+                builder.append('k');
+            }
+            if ((rights & CastlingRights.DARK_QUEEN_SIDE) != 0) {
+                builder.append('q');
+            }
+        }
+
+        int enPassantSquare = board.getEnPassantSquare();
+        builder.append(' ');
+        if (enPassantSquare == Board.NO_SQUARE) {
+            builder.append('-');
+        } else {
+            builder.append((char) ('a' + Bitboards.fileOf(enPassantSquare)))
+                    .append((char) ('1' + Bitboards.rankOf(enPassantSquare)));
+        }
+        return builder.append(' ').append(board.getHalfmoveClock())
+                .append(' ').append(board.getFullmoveNumber())
+                .toString();
+    }
+
+    private static int skipSpaces(String fen, int index) {
+        while (index < fen.length() && fen.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int nextSpace(String fen, int index) {
+        while (index < fen.length() && fen.charAt(index) != ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int parseNumber(String fen, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = fen.charAt(i);
+            if (c < '0' || c > '9' || value > 100_000) {
+                throw invalid(fen, "move counters must be small non-negative numbers");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(String fen, String reason) {
+        return new IllegalArgumentException("Invalid FEN '" + fen + "': " + reason);
+    }
+}
@@ -0,0 +1,39 @@
+package com.chess.board;
+
+import com.chess.move.MoveGenerator;
+import com.chess.piece.PieceColor;
+
+public enum GameOutcome {
+    ONGOING,
+    CHECKMATE,
+    STALEMATE,
+    INSUFFICIENT_MATERIAL,
+    THREEFOLD_REPETITION,
+    FIFTY_MOVE_RULE;
+
+    public boolean isOver() {
+        return this != ONGOING;
+    }
+
+    public boolean isDraw() {
+        return isOver() && this != CHECKMATE;
+    }
+
+    // a mate delivered on the fiftieth move still counts, so running out of moves is checked first
+    public static GameOutcome of(Board board) {
+        PieceColor side = board.getSideToMove();
+        if (!MoveGenerator.hasLegalMove(board, side)) {
+            return board.isInCheck(side) ? CHECKMATE : STALEMATE;
+        }
+        if (board.isInsufficientMaterial()) {
+            return INSUFFICIENT_MATERIAL;
+        }
+        if (board.isThreefoldRepetition()) {
+            return THREEFOLD_REPETITION;
+        }
+        if (board.isFiftyMoveRule()) {
+            return FIFTY_MOVE_RULE;
+        }
+        return ONGOING;
+    }
+}
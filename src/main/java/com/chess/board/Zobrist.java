@@ -0,0 +1,54 @@
+package com.chess.board;
+
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+    private static final long[][][] PIECE_KEYS =
+            new long[PieceColor.values().length][PieceType.values().length][Bitboards.SQUARE_COUNT];
+    private static final long SIDE_KEY;
+    private static final long[] CASTLING_KEYS = new long[CastlingRights.ALL + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[8];
+
+    static {
+        // fixed seed so keys, and anything persisted against them, are stable across runs
+        SplittableRandom random = new SplittableRandom(0x2F6B_3A91_C4D8_E157L);
+        for (long[][] colorKeys : PIECE_KEYS) {
+            for (long[] typeKeys : colorKeys) {
+                for (int square = 0; square < typeKeys.length; square++) {
+                    typeKeys[square] = random.nextLong();
+                }
+            }
+        }
+        SIDE_KEY = random.nextLong();
+        // one key per combination of castling rights, the empty one left at zero, then one per en passant file
+        for (int rights = 1; rights < CASTLING_KEYS.length; rights++) {
+            CASTLING_KEYS[rights] = random.nextLong();
+        }
+        for (int file = 0; file < EN_PASSANT_KEYS.length; file++) {
+            EN_PASSANT_KEYS[file] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    public static long piece(PieceColor color, PieceType type, int square) {
+        return PIECE_KEYS[color.ordinal()][type.ordinal()][square];
+    }
+
+    public static long sideToMove() {
+        return SIDE_KEY;
+    }
+
+    // a whole set of rights maps to one key; no rights is zero
+    public static long castling(int rights) {
+        return CASTLING_KEYS[rights];
+    }
+
+    public static long enPassant(int square) {
+        return EN_PASSANT_KEYS[Bitboards.fileOf(square)];
+    }
+}
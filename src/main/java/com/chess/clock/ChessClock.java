@@ -0,0 +1,79 @@
+package com.chess.clock;
+
+import com.chess.piece.PieceColor;
+
+import java.util.function.LongSupplier;
+
+public class ChessClock {
+    private final long incrementMillis;
+    private final long[] remainingMillis = new long[PieceColor.values().length];
+    private final LongSupplier timeSource;
+    private PieceColor running;
+    private long turnStartedAt;
+
+    public ChessClock(long baseMillis, long incrementMillis) {
+        this(baseMillis, incrementMillis, System::currentTimeMillis);
+    }
+
+    public ChessClock(long baseMillis, long incrementMillis, LongSupplier timeSource) {
+        if (baseMillis <= 0 || incrementMillis < 0) {
+            throw new IllegalArgumentException("Clock needs a positive base time and a non-negative increment");
+        }
+        this.incrementMillis = incrementMillis;
+        this.remainingMillis[PieceColor.LIGHT.ordinal()] = baseMillis;
+        this.remainingMillis[PieceColor.DARK.ordinal()] = baseMillis;
+        this.timeSource = timeSource;
+    }
+
+    public void start(PieceColor side) {
+        running = side;
+        turnStartedAt = timeSource.getAsLong();
+    }
+
+    // the running side has moved: charge its time, credit the increment and start the other side
+    public void press() {
+        if (running == null) {
+            return;
+        }
+        long now = timeSource.getAsLong();
+        remainingMillis[running.ordinal()] -= now - turnStartedAt;
+        remainingMillis[running.ordinal()] += incrementMillis;
+        running = running.opposite();
+        turnStartedAt = now;
+    }
+
+    // hands the move to a side without an increment, as after a takeback; time already used stays charged
+    public void switchTo(PieceColor side) {
+        stop();
+        start(side);
+    }
+
+    // charges the running side and leaves both clocks standing, as when the game has ended
+    public void stop() {
+        if (running == null) {
+            return;
+        }
+        remainingMillis[running.ordinal()] -= timeSource.getAsLong() - turnStartedAt;
+        running = null;
+    }
+
+    public long getRemainingMillis(PieceColor color) {
+        long remaining = remainingMillis[color.ordinal()];
+        if (color == running) {
+            remaining -= timeSource.getAsLong() - turnStartedAt;
+        }
+        return Math.max(0, remaining);
+    }
+
+    public long getIncrementMillis() {
+        return incrementMillis;
+    }
+
+    public PieceColor getRunning() {
+        return running;
+    }
+
+    public boolean isFlagged(PieceColor color) {
+        return getRemainingMillis(color) == 0;
+    }
+}
@@ -1,35 +1,57 @@
 package com.chess.common;
 
-import java.util.Objects;
-
 public class Location {
+    private static final File[] files = File.values();
+    private static final Location[] locations = new Location[64];
+
+    static {
+        for (int index = 0; index < locations.length; index++) {
+            locations[index] = new Location(files[index & 7], (index >>> 3) + 1);
+        }
+    }
+
     private final File file;
-    private final Integer rank;
+    private final int rank;
+    private final int index;
 
-    public Location(File file, Integer rank) {
+    private Location(File file, int rank) {
         this.file = file;
         this.rank = rank;
+        this.index = ((rank - 1) << 3) | file.ordinal();
+    }
+
+    public static Location of(int index) {
+        return locations[index];
+    }
+
+    public static Location of(File file, int rank) {
+        return locations[((rank - 1) << 3) | file.ordinal()];
     }
 
     public File getFile() {
         return file;
     }
 
-    public Integer getRank() {
+    public int getRank() {
         return rank;
     }
 
+    // a1 = 0, b1 = 1, ..., h8 = 63
+    public int getIndex() {
+        return index;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Location location = (Location) o;
-        return file == location.file && Objects.equals(rank, location.rank);
+        return file == location.file && rank == location.rank;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(file, rank);
+        return index;
     }
 
     @Override
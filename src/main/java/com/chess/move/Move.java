@@ -0,0 +1,83 @@
+package com.chess.move;
+
+import com.chess.common.Location;
+import com.chess.piece.PieceType;
+
+import java.util.Locale;
+
+public final class Move {
+    public static final int NONE = 0;
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = CAPTURE | 1;
+    public static final int PROMOTION = 8;
+
+    public static final int KNIGHT_PROMOTION = PROMOTION;
+    public static final int BISHOP_PROMOTION = PROMOTION | 1;
+    public static final int ROOK_PROMOTION = PROMOTION | 2;
+    public static final int QUEEN_PROMOTION = PROMOTION | 3;
+
+    private static final PieceType[] PROMOTION_TYPES = {
+            PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN
+    };
+
+    private Move() {
+    }
+
+    // bits 0-5: from square, 6-11: to square, 12-15: flags
+    public static int of(int from, int to, int flags) {
+        return from | (to << 6) | (flags << 12);
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int flags(int move) {
+        return (move >>> 12) & 15;
+    }
+
+    public static boolean isCapture(int move) {
+        return (flags(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return (flags(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isEnPassant(int move) {
+        return flags(move) == EN_PASSANT;
+    }
+
+    public static boolean isCastling(int move) {
+        int flags = flags(move);
+        return flags == KING_CASTLE || flags == QUEEN_CASTLE;
+    }
+
+    public static PieceType promotionType(int move) {
+        return isPromotion(move) ? PROMOTION_TYPES[flags(move) & 3] : null;
+    }
+
+    public static String toString(int move) {
+        StringBuilder builder = new StringBuilder(5);
+        appendSquare(builder, from(move));
+        appendSquare(builder, to(move));
+        if (isPromotion(move)) {
+            builder.append("nbrq".charAt(flags(move) & 3));
+        }
+        return builder.toString();
+    }
+
+    private static void appendSquare(StringBuilder builder, int square) {
+        Location location = Location.of(square);
+        builder.append(location.getFile().name().toLowerCase(Locale.ROOT)).append(location.getRank());
+    }
+}
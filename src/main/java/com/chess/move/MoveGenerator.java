@@ -0,0 +1,280 @@
+package com.chess.move;
+
+import com.chess.board.Attacks;
+import com.chess.board.Bitboards;
+import com.chess.board.Board;
+import com.chess.board.CastlingRights;
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+public final class MoveGenerator {
+    public static final int MAX_MOVES = 256;
+    private static final int MAX_PIECE_MOVES = 32;
+
+    private MoveGenerator() {
+    }
+
+    public static int generate(Board board, PieceColor color, int[] moves) {
+        return generate(board, color, moves, 0);
+    }
+
+    public static int generate(Board board, PieceColor color, int[] moves, int count) {
+        long pieces = board.getOccupancy(color);
+        while (pieces != 0) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            count = board.getSquare(from).getCurrentPiece().generateMoves(board, from, moves, count);
+            pieces &= pieces - 1;
+        }
+        return count;
+    }
+
+    public static int generateCaptures(Board board, PieceColor color, int[] moves, int count) {
+        long pieces = board.getOccupancy(color);
+        while (pieces != 0) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            count = board.getSquare(from).getCurrentPiece().generateCaptures(board, from, moves, count);
+            pieces &= pieces - 1;
+        }
+        return count;
+    }
+
+    public static int generateQuiets(Board board, PieceColor color, int[] moves, int count) {
+        long pieces = board.getOccupancy(color);
+        while (pieces != 0) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            count = board.getSquare(from).getCurrentPiece().generateQuiets(board, from, moves, count);
+            pieces &= pieces - 1;
+        }
+        return count;
+    }
+
+    public static int generateLegal(Board board, PieceColor color, int[] moves) {
+        return keepLegal(board, color, moves, 0, generate(board, color, moves, 0));
+    }
+
+    public static int generateLegalCaptures(Board board, PieceColor color, int[] moves, int count) {
+        return keepLegal(board, color, moves, count, generateCaptures(board, color, moves, count));
+    }
+
+    public static int generateLegalQuiets(Board board, PieceColor color, int[] moves, int count) {
+        return keepLegal(board, color, moves, count, generateQuiets(board, color, moves, count));
+    }
+
+    // stops at the first legal move, so a position that still has moves costs one or two pieces' worth of work
+    public static boolean hasLegalMove(Board board, PieceColor color) {
+        int king = board.getKingSquare(color);
+        long pieces = board.getOccupancy(color);
+        long checkers = Bitboards.EMPTY;
+        long pinned = Bitboards.EMPTY;
+        if (king >= 0) {
+            // castling is never needed here: it requires the square next to the king to be empty and safe
+            long occupancy = board.getOccupancy();
+            long kingDanger = board.computeAttacks(color.opposite(), occupancy ^ Bitboards.bit(king));
+            if ((Attacks.kingAttacks(king) & ~pieces & ~kingDanger) != 0) {
+                return true;
+            }
+            // the king is the only piece that can answer a double check
+            checkers = board.attackersTo(king, occupancy) & board.getOccupancy(color.opposite());
+            if (Long.bitCount(checkers) > 1) {
+                return false;
+            }
+            pinned = board.getPinnedPieces(color);
+            pieces &= ~Bitboards.bit(king);
+        }
+
+        int[] moves = new int[MAX_PIECE_MOVES];
+        while (pieces != 0) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            int count = board.getSquare(from).getCurrentPiece().generateMoves(board, from, moves, 0);
+            if (count > 0 && keepLegal(board, color, moves, 0, count, king, checkers, pinned) > 0) {
+                return true;
+            }
+            pieces &= pieces - 1;
+        }
+        return false;
+    }
+
+    // checks a move from elsewhere, such as a hash or killer move, against the current position
+    // without generating anything: the move must fit the piece and the board, then the own king must stay safe
+    public static boolean isLegal(Board board, PieceColor color, int move) {
+        if (move == Move.NONE) {
+            return false;
+        }
+        int from = Move.from(move);
+        int to = Move.to(move);
+        AbstractPiece piece = board.getSquare(from).getCurrentPiece();
+        if (piece == null || piece.getPieceColor() != color) {
+            return false;
+        }
+
+        int flags = Move.flags(move);
+        long occupancy = board.getOccupancy();
+        long enemies = board.getOccupancy(color.opposite());
+        long toBit = Bitboards.bit(to);
+        PieceType type = piece.getPieceType();
+        if (type == PieceType.PAWN) {
+            if (!isPseudoLegalPawnMove(board, color, from, to, flags, occupancy, enemies)) {
+                return false;
+            }
+        } else if (Move.isCastling(move)) {
+            // the path check already keeps the king out of check
+            return type == PieceType.KING && canCastle(board, color, from, to, flags == Move.KING_CASTLE, occupancy);
+        } else {
+            long targets = flags == Move.CAPTURE ? enemies : flags == Move.QUIET ? ~occupancy : Bitboards.EMPTY;
+            if ((pieceAttacks(type, from, occupancy) & targets & toBit) == 0) {
+                return false;
+            }
+        }
+
+        int king = board.getKingSquare(color);
+        if (king < 0) {
+            return true;
+        }
+        if (from == king) {
+            return (board.attackersTo(to, occupancy ^ Bitboards.bit(king)) & enemies & ~toBit) == 0;
+        }
+        if (Move.isEnPassant(move)) {
+            return isLegalEnPassant(board, king, from, to, occupancy, enemies);
+        }
+        long occupancyAfter = (occupancy ^ Bitboards.bit(from)) | toBit;
+        return (board.attackersTo(king, occupancyAfter) & enemies & ~toBit) == 0;
+    }
+
+    // compacts moves[start..end) down to the legal ones and returns the new end
+    private static int keepLegal(Board board, PieceColor color, int[] moves, int start, int end) {
+        int king = board.getKingSquare(color);
+        if (king < 0) {
+            return end;
+        }
+        long checkers = board.attackersTo(king, board.getOccupancy()) & board.getOccupancy(color.opposite());
+        return keepLegal(board, color, moves, start, end, king, checkers, board.getPinnedPieces(color));
+    }
+
+    private static int keepLegal(Board board, PieceColor color, int[] moves, int start, int end,
+                                 int king, long checkers, long pinned) {
+        if (king < 0) {
+            return end;
+        }
+
+        long occupancy = board.getOccupancy();
+        long enemies = board.getOccupancy(color.opposite());
+        boolean doubleCheck = Long.bitCount(checkers) > 1;
+        long evasionTargets = checkers == 0
+                ? ~Bitboards.EMPTY
+                : checkers | Attacks.between(king, Long.numberOfTrailingZeros(checkers));
+
+        // squares the king cannot step to, with the king lifted so sliders see through its square
+        long kingDanger = Bitboards.EMPTY;
+        boolean kingDangerKnown = false;
+        int legalCount = start;
+        for (int i = start; i < end; i++) {
+            int move = moves[i];
+            int from = Move.from(move);
+            int to = Move.to(move);
+
+            boolean legal;
+            if (from == king) {
+                if (Move.isCastling(move)) {
+                    // King only offers castling when its path is not attacked
+                    legal = true;
+                } else {
+                    if (!kingDangerKnown) {
+                        kingDanger = board.computeAttacks(color.opposite(), occupancy ^ Bitboards.bit(king));
+                        kingDangerKnown = true;
+                    }
+                    legal = (kingDanger & Bitboards.bit(to)) == 0;
+                }
+            } else if (doubleCheck) {
+                legal = false;
+            } else if (Move.isEnPassant(move)) {
+                legal = isLegalEnPassant(board, king, from, to, occupancy, enemies);
+            } else {
+                legal = (evasionTargets & Bitboards.bit(to)) != 0
+                        && ((pinned & Bitboards.bit(from)) == 0 || (Attacks.line(king, from) & Bitboards.bit(to)) != 0);
+            }
+
+            if (legal) {
+                moves[legalCount++] = move;
+            }
+        }
+        return legalCount;
+    }
+
+    public static int findLegalMove(Board board, PieceColor color, int from, int to) {
+        int[] moves = new int[MAX_MOVES];
+        int count = generateLegal(board, color, moves);
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            if (Move.from(move) == from && Move.to(move) == to
+                    && (!Move.isPromotion(move) || Move.promotionType(move) == PieceType.QUEEN)) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+
+    // en passant removes two pieces from one rank, which the pin mask cannot express
+    private static boolean isLegalEnPassant(Board board, int king, int from, int to, long occupancy, long enemies) {
+        int capturedSquare = Bitboards.squareIndex(Bitboards.fileOf(to), Bitboards.rankOf(from));
+        long capturedBit = Bitboards.bit(capturedSquare);
+        long occupancyAfter = (occupancy ^ Bitboards.bit(from) ^ capturedBit) | Bitboards.bit(to);
+        return (board.attackersTo(king, occupancyAfter) & enemies & ~capturedBit) == 0;
+    }
+
+    private static boolean isPseudoLegalPawnMove(Board board, PieceColor color, int from, int to, int flags,
+                                                 long occupancy, long enemies) {
+        int forward = color == PieceColor.LIGHT ? 8 : -8;
+        int promotionRank = color == PieceColor.LIGHT ? 7 : 0;
+        boolean promotion = (flags & Move.PROMOTION) != 0;
+        if (promotion != (Bitboards.rankOf(to) == promotionRank)) {
+            return false;
+        }
+
+        long attacks = Attacks.pawnAttacks(color, from);
+        switch (promotion ? flags & Move.CAPTURE : flags) {
+            case Move.QUIET:
+                return to == from + forward && !Bitboards.contains(occupancy, to);
+            case Move.DOUBLE_PAWN_PUSH:
+                return Bitboards.rankOf(from) == (color == PieceColor.LIGHT ? 1 : 6) && to == from + 2 * forward
+                        && !Bitboards.contains(occupancy, from + forward) && !Bitboards.contains(occupancy, to);
+            case Move.CAPTURE:
+                return Bitboards.contains(attacks & enemies, to);
+            case Move.EN_PASSANT:
+                return to == board.getEnPassantSquare() && Bitboards.contains(attacks, to)
+                        && Bitboards.rankOf(to) == (color == PieceColor.LIGHT ? 5 : 2);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean canCastle(Board board, PieceColor color, int from, int to, boolean kingSide, long occupancy) {
+        int rank = color == PieceColor.LIGHT ? 0 : 7;
+        int right = kingSide ? CastlingRights.kingSide(color) : CastlingRights.queenSide(color);
+        int rookSquare = Bitboards.squareIndex(kingSide ? 7 : 0, rank);
+        if (from != Bitboards.squareIndex(4, rank) || to != Bitboards.squareIndex(kingSide ? 6 : 2, rank)
+                || !board.hasCastlingRight(right) || !Bitboards.contains(board.getPieces(color, PieceType.ROOK), rookSquare)
+                || (Attacks.between(from, rookSquare) & occupancy) != 0) {
+            return false;
+        }
+        long kingPath = Attacks.between(from, to) | Bitboards.bit(from) | Bitboards.bit(to);
+        return (board.getAttacks(color.opposite()) & kingPath) == 0;
+    }
+
+    private static long pieceAttacks(PieceType type, int from, long occupancy) {
+        switch (type) {
+            case KNIGHT:
+                return Attacks.knightAttacks(from);
+            case BISHOP:
+                return Attacks.bishopAttacks(from, occupancy);
+            case ROOK:
+                return Attacks.rookAttacks(from, occupancy);
+            case QUEEN:
+                return Attacks.queenAttacks(from, occupancy);
+            case KING:
+                return Attacks.kingAttacks(from);
+            default:
+                return Bitboards.EMPTY;
+        }
+    }
+}
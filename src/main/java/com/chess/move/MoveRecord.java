@@ -12,6 +12,13 @@ public class MoveRecord {
     private final boolean enPassantCapture;
     private final boolean castling;
     private final AbstractPiece promotionPiece;
+    private final int move;
+    private final boolean pieceHadMoved;
+    private final boolean rookHadMoved;
+    private final MoveRecord previousMove;
+    private final int previousCastlingRights;
+    private final int previousEnPassantSquare;
+    private final int previousHalfmoveClock;
 
     private MoveRecord(Builder builder) {
         this.piece = builder.piece;
@@ -22,6 +29,13 @@ public class MoveRecord {
         this.enPassantCapture = builder.enPassantCapture;
         this.castling = builder.castling;
         this.promotionPiece = builder.promotionPiece;
+        this.move = builder.move;
+        this.pieceHadMoved = builder.pieceHadMoved;
+        this.rookHadMoved = builder.rookHadMoved;
+        this.previousMove = builder.previousMove;
+        this.previousCastlingRights = builder.previousCastlingRights;
+        this.previousEnPassantSquare = builder.previousEnPassantSquare;
+        this.previousHalfmoveClock = builder.previousHalfmoveClock;
     }
 
     public AbstractPiece getPiece() {
@@ -56,6 +70,34 @@ public class MoveRecord {
         return promotionPiece;
     }
 
+    public int getMove() {
+        return move;
+    }
+
+    public boolean pieceHadMoved() {
+        return pieceHadMoved;
+    }
+
+    public boolean rookHadMoved() {
+        return rookHadMoved;
+    }
+
+    public MoveRecord getPreviousMove() {
+        return previousMove;
+    }
+
+    public int getPreviousCastlingRights() {
+        return previousCastlingRights;
+    }
+
+    public int getPreviousEnPassantSquare() {
+        return previousEnPassantSquare;
+    }
+
+    public int getPreviousHalfmoveClock() {
+        return previousHalfmoveClock;
+    }
+
     public void setPiece(AbstractPiece piece) {
         this.piece = piece;
     }
@@ -73,6 +115,13 @@ public class MoveRecord {
         private boolean enPassantCapture;
         private boolean castling;
         private AbstractPiece promotionPiece;
+        private int move;
+        private boolean pieceHadMoved;
+        private boolean rookHadMoved;
+        private MoveRecord previousMove;
+        private int previousCastlingRights;
+        private int previousEnPassantSquare;
+        private int previousHalfmoveClock;
 
         private Builder(AbstractPiece piece, Location from, Location to) {
             this.piece = piece;
@@ -110,6 +159,41 @@ public class MoveRecord {
             return this;
         }
 
+        public Builder move(int move) {
+            this.move = move;
+            return this;
+        }
+
+        public Builder pieceHadMoved(boolean pieceHadMoved) {
+            this.pieceHadMoved = pieceHadMoved;
+            return this;
+        }
+
+        public Builder rookHadMoved(boolean rookHadMoved) {
+            this.rookHadMoved = rookHadMoved;
+            return this;
+        }
+
+        public Builder previousMove(MoveRecord previousMove) {
+            this.previousMove = previousMove;
+            return this;
+        }
+
+        public Builder previousCastlingRights(int previousCastlingRights) {
+            this.previousCastlingRights = previousCastlingRights;
+            return this;
+        }
+
+        public Builder previousEnPassantSquare(int previousEnPassantSquare) {
+            this.previousEnPassantSquare = previousEnPassantSquare;
+            return this;
+        }
+
+        public Builder previousHalfmoveClock(int previousHalfmoveClock) {
+            this.previousHalfmoveClock = previousHalfmoveClock;
+            return this;
+        }
+
         public MoveRecord build() {
             return new MoveRecord(this);
         }
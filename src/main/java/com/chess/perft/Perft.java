@@ -0,0 +1,141 @@
+package com.chess.perft;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class Perft {
+    private final int threads;
+    private final PerftTable table;
+
+    public Perft() {
+        this(1, 0);
+    }
+
+    public Perft(int threads, int hashMb) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threads = threads;
+        this.table = hashMb > 0 ? new PerftTable(hashMb) : null;
+    }
+
+    public long count(Board board, int depth) {
+        return count(board, depth, new int[depth + 1][MoveGenerator.MAX_MOVES]);
+    }
+
+    public PerftResult divide(Board board, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Divide needs a depth of at least 1");
+        }
+
+        long start = System.nanoTime();
+        int[] rootMoves = new int[MoveGenerator.MAX_MOVES];
+        int rootCount = MoveGenerator.generateLegal(board, board.getSideToMove(), rootMoves);
+
+        long[] counts = new long[rootCount];
+        if (threads == 1) {
+            int[][] buffers = new int[depth][MoveGenerator.MAX_MOVES];
+            for (int i = 0; i < rootCount; i++) {
+                MoveRecord record = board.make(rootMoves[i]);
+                counts[i] = count(board, depth - 1, buffers);
+                board.unmake(record);
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                List<ForkJoinTask<?>> tasks = new ArrayList<>(rootCount);
+                for (int i = 0; i < rootCount; i++) {
+                    int index = i;
+                    Board child = board.copy();
+                    child.make(rootMoves[i]);
+                    tasks.add(pool.submit(() -> {
+                        counts[index] = count(child, depth - 1, new int[depth][MoveGenerator.MAX_MOVES]);
+                    }));
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long nodes = 0;
+        for (int i = 0; i < rootCount; i++) {
+            divide.put(Move.toString(rootMoves[i]), counts[i]);
+            nodes += counts[i];
+        }
+        return new PerftResult(depth, divide, nodes, System.nanoTime() - start);
+    }
+
+    private long count(Board board, int depth, int[][] buffers) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        if (table != null && depth > 1) {
+            long cached = table.probe(board.getZobristKey(), depth);
+            if (cached >= 0) {
+                return cached;
+            }
+        }
+
+        int[] moves = buffers[depth];
+        int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+        if (depth == 1) {
+            return count;
+        }
+
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            MoveRecord record = board.make(moves[i]);
+            nodes += count(board, depth - 1, buffers);
+            board.unmake(record);
+        }
+
+        if (table != null) {
+            table.store(board.getZobristKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Kullanım: Perft <derinlik> [iş parçacığı sayısı] [hash MB] [FEN]");
+            return;
+        }
+
+        int depth = Integer.parseInt(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int hashMb = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        // the FEN may come unquoted, as its space-separated fields
+        String fen = args.length > 3 ? String.join(" ", Arrays.copyOfRange(args, 3, args.length)) : Fen.INITIAL;
+
+        Board board;
+        try {
+            board = Fen.parse(fen);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Geçersiz FEN: " + e.getMessage());
+            return;
+        }
+
+        PerftResult result = new Perft(threads, hashMb).divide(board, depth);
+        result.getDivide().forEach((move, nodes) -> System.out.printf("%s: %d%n", move, nodes));
+        System.out.println();
+        System.out.printf("Düğüm sayısı: %d%n", result.getNodes());
+        System.out.printf("Süre: %d ms%n", result.getElapsedNanos() / 1_000_000);
+        System.out.printf("Düğüm/sn: %d%n", result.getNodesPerSecond());
+    }
+}
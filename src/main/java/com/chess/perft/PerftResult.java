@@ -0,0 +1,37 @@
+package com.chess.perft;
+
+import java.util.Map;
+
+public class PerftResult {
+    private final int depth;
+    private final Map<String, Long> divide;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public PerftResult(int depth, Map<String, Long> divide, long nodes, long elapsedNanos) {
+        this.depth = depth;
+        this.divide = divide;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public Map<String, Long> getDivide() {
+        return divide;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+}
@@ -0,0 +1,30 @@
+package com.chess.perft;
+
+class PerftTable {
+    private static final long DEPTH_MIX = 0x9E37_79B9_7F4A_7C15L;
+
+    // two longs per entry: the tagged key XOR-ed with the count, then the count
+    private final long[] entries;
+    private final int mask;
+
+    PerftTable(int sizeMb) {
+        int entryCount = Integer.highestOneBit(Math.max(1, (int) Math.min(Integer.MAX_VALUE / 2,
+                (long) sizeMb * 1024 * 1024 / (2 * Long.BYTES))));
+        this.entries = new long[entryCount * 2];
+        this.mask = entryCount - 1;
+    }
+
+    long probe(long key, int depth) {
+        long tagged = key ^ depth * DEPTH_MIX;
+        int slot = ((int) tagged & mask) << 1;
+        long count = entries[slot + 1];
+        return count != 0 && (entries[slot] ^ count) == tagged ? count : -1;
+    }
+
+    void store(long key, int depth, long count) {
+        long tagged = key ^ depth * DEPTH_MIX;
+        int slot = ((int) tagged & mask) << 1;
+        entries[slot] = tagged ^ count;
+        entries[slot + 1] = count;
+    }
+}
@@ -1,11 +1,21 @@
 package com.chess.piece;
 
 import com.chess.board.Board;
+import com.chess.common.Location;
+import com.chess.move.Move;
 import com.chess.squares.Square;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AbstractPiece implements Movable {
+    // a queen in the centre of an open board has 27 targets; promotions add at most 12
+    private static final int MAX_PIECE_MOVES = 32;
+
     protected String name;
     protected PieceColor pieceColor;
+    protected PieceType pieceType;
     protected Square currentSquare;
     protected boolean hasMoved;
 
@@ -21,6 +31,10 @@ public abstract class AbstractPiece implements Movable {
         return pieceColor;
     }
 
+    public PieceType getPieceType() {
+        return pieceType;
+    }
+
     public Square getCurrentSquare() {
         return currentSquare;
     }
@@ -34,6 +48,46 @@ public abstract class AbstractPiece implements Movable {
         return hasMoved;
     }
 
+    public void setHasMoved(boolean hasMoved) {
+        this.hasMoved = hasMoved;
+    }
+
+    @Override
+    public List<Location> getValidMoves(Board board) {
+        return getValidMoves(board, this.getCurrentSquare());
+    }
+
+    @Override
+    public List<Location> getValidMoves(Board board, Square square) {
+        if (board == null || square == null) {
+            return Collections.emptyList();
+        }
+
+        int[] moves = new int[MAX_PIECE_MOVES];
+        int count = generateMoves(board, square.getLocation().getIndex(), moves, 0);
+        List<Location> moveCandidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            // the Location view has one entry per target, so only the queen promotion is reported
+            if (!Move.isPromotion(move) || Move.promotionType(move) == PieceType.QUEEN) {
+                moveCandidates.add(Location.of(Move.to(move)));
+            }
+        }
+        return moveCandidates;
+    }
+
+    protected boolean isOnSquare(int square) {
+        return currentSquare != null && currentSquare.getLocation().getIndex() == square;
+    }
+
+    protected static int addMoves(int from, long targets, int flags, int[] moves, int count) {
+        while (targets != 0) {
+            moves[count++] = Move.of(from, Long.numberOfTrailingZeros(targets), flags);
+            targets &= targets - 1;
+        }
+        return count;
+    }
+
     protected AbstractPiece moveToSquare(Board board, Square destination) {
         if (destination == null) {
             throw new IllegalArgumentException("Destination square cannot be null");
@@ -1,59 +1,50 @@
 package com.chess.piece;
 
+import com.chess.board.Attacks;
+import com.chess.board.Bitboards;
 import com.chess.board.Board;
+import com.chess.board.CastlingRights;
 import com.chess.common.File;
 import com.chess.common.Location;
-import com.chess.common.LocationFactory;
+import com.chess.move.Move;
 import com.chess.move.MoveRecord;
 import com.chess.squares.Square;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 public class King extends AbstractPiece implements Movable {
+    private static final File[] KING_SIDE_BETWEEN_FILES = {File.F, File.G};
+    private static final File[] QUEEN_SIDE_BETWEEN_FILES = {File.D, File.C, File.B};
+
     public King(PieceColor pieceColor) {
         super(pieceColor);
         this.name = "King";
+        this.pieceType = PieceType.KING;
     }
 
     @Override
-    public List<Location> getValidMoves(Board board) {
-        return getValidMoves(board, this.getCurrentSquare());
+    public int generateCaptures(Board board, int from, int[] moves, int count) {
+        long targets = Attacks.kingAttacks(from) & board.getOccupancy(this.pieceColor.opposite());
+        return addMoves(from, targets, Move.CAPTURE, moves, count);
     }
 
     @Override
-    public List<Location> getValidMoves(Board board, Square square) {
-        if (board == null || square == null) {
-            return List.of();
-        }
-
-        int[][] offsets = {
-                {1, 0}, {-1, 0}, {0, 1}, {0, -1},
-                {1, 1}, {1, -1}, {-1, 1}, {-1, -1}
-        };
-
-        List<Location> moveCandidates = new ArrayList<>();
-        Map<Location, Square> squareMap = board.getLocationSquareMap();
-        Location current = square.getLocation();
-
-        for (int[] offset : offsets) {
-            Location next = LocationFactory.build(current, offset[0], offset[1]);
-            if (next == null || !squareMap.containsKey(next)) {
-                continue;
+    public int generateQuiets(Board board, int from, int[] moves, int count) {
+        long targets = Attacks.kingAttacks(from) & ~board.getOccupancy();
+        count = addMoves(from, targets, Move.QUIET, moves, count);
+
+        // a castling right implies the king still stands on its home square
+        int rank = Bitboards.rankOf(from);
+        int homeRank = this.pieceColor == PieceColor.LIGHT ? 0 : 7;
+        if (isOnSquare(from) && rank == homeRank && Bitboards.fileOf(from) == File.E.ordinal()) {
+            if (board.hasCastlingRight(CastlingRights.kingSide(this.pieceColor))
+                    && canCastle(board, from, rank, File.H, KING_SIDE_BETWEEN_FILES, File.G)) {
+                moves[count++] = Move.of(from, Bitboards.squareIndex(File.G.ordinal(), rank), Move.KING_CASTLE);
             }
-
-            Square nextSquare = squareMap.get(next);
-            if (!nextSquare.isOccupied() || nextSquare.getCurrentPiece().getPieceColor() != this.pieceColor) {
-                moveCandidates.add(next);
+            if (board.hasCastlingRight(CastlingRights.queenSide(this.pieceColor))
+                    && canCastle(board, from, rank, File.A, QUEEN_SIDE_BETWEEN_FILES, File.C)) {
+                moves[count++] = Move.of(from, Bitboards.squareIndex(File.C.ordinal(), rank), Move.QUEEN_CASTLE);
             }
         }
-
-        if (!this.hasMoved() && square == this.getCurrentSquare()) {
-            addCastlingMoves(board, moveCandidates, current);
-        }
-
-        return moveCandidates;
+        return count;
     }
 
     @Override
@@ -72,46 +63,32 @@ public class King extends AbstractPiece implements Movable {
                 .build();
     }
 
-    private void addCastlingMoves(Board board, List<Location> moveCandidates, Location current) {
-        attemptCastling(board, moveCandidates, current,
-                File.H,
-                new File[]{File.F, File.G},
-                File.G);
-
-        attemptCastling(board, moveCandidates, current,
-                File.A,
-                new File[]{File.D, File.C, File.B},
-                File.C);
-    }
+    private boolean canCastle(Board board, int from, int rank, File rookFile, File[] betweenFiles, File destinationFile) {
+        Square rookSquare = board.getSquare(Bitboards.squareIndex(rookFile.ordinal(), rank));
 
-    private void attemptCastling(Board board, List<Location> moveCandidates, Location kingLocation,
-                                 File rookFile, File[] betweenFiles, File destinationFile) {
-        Map<Location, Square> squareMap = board.getLocationSquareMap();
-        Location rookLocation = new Location(rookFile, kingLocation.getRank());
-        Square rookSquare = squareMap.get(rookLocation);
-
-        if (rookSquare == null || !rookSquare.isOccupied()) {
-            return;
+        if (!rookSquare.isOccupied()) {
+            return false;
         }
 
         AbstractPiece rookPiece = rookSquare.getCurrentPiece();
-        if (!(rookPiece instanceof Rook) || rookPiece.getPieceColor() != this.pieceColor || rookPiece.hasMoved()) {
-            return;
+        if (!(rookPiece instanceof Rook) || rookPiece.getPieceColor() != this.pieceColor) {
+            return false;
         }
 
+        long occupancy = board.getOccupancy();
         for (File file : betweenFiles) {
-            Location betweenLocation = new Location(file, kingLocation.getRank());
-            Square betweenSquare = squareMap.get(betweenLocation);
-            if (betweenSquare == null || betweenSquare.isOccupied()) {
-                return;
+            if (Bitboards.contains(occupancy, Bitboards.squareIndex(file.ordinal(), rank))) {
+                return false;
             }
         }
 
-        moveCandidates.add(new Location(destinationFile, kingLocation.getRank()));
+        // the king may not castle out of, through or into check
+        int destination = Bitboards.squareIndex(destinationFile.ordinal(), rank);
+        long kingPath = Attacks.between(from, destination) | Bitboards.bit(from) | Bitboards.bit(destination);
+        return (board.getAttacks(this.pieceColor.opposite()) & kingPath) == 0;
     }
 
     private void relocateRookForCastling(Board board, Square kingDestination, Location kingFrom) {
-        Map<Location, Square> squareMap = board.getLocationSquareMap();
         File destinationFile = kingDestination.getLocation().getFile();
         int rank = kingDestination.getLocation().getRank();
         boolean kingSide = destinationFile.ordinal() > kingFrom.getFile().ordinal();
@@ -119,10 +96,10 @@ public class King extends AbstractPiece implements Movable {
         File rookSourceFile = kingSide ? File.H : File.A;
         File rookDestinationFile = kingSide ? File.F : File.D;
 
-        Square rookSourceSquare = squareMap.get(new Location(rookSourceFile, rank));
-        Square rookDestinationSquare = squareMap.get(new Location(rookDestinationFile, rank));
+        Square rookSourceSquare = board.getSquare(Location.of(rookSourceFile, rank));
+        Square rookDestinationSquare = board.getSquare(Location.of(rookDestinationFile, rank));
 
-        if (rookSourceSquare == null || rookDestinationSquare == null || !rookSourceSquare.isOccupied()) {
+        if (!rookSourceSquare.isOccupied()) {
             return;
         }
 
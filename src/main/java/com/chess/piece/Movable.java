@@ -11,6 +11,21 @@ public interface Movable {
 
     List<Location> getValidMoves(Board board);
     List<Location> getValidMoves(Board board, Square square);
+
+    default List<Location> getValidMoves(Board board, int square) {
+        return getValidMoves(board, board.getSquare(square));
+    }
+
+    default int generateMoves(Board board, int from, int[] moves, int count) {
+        count = generateCaptures(board, from, moves, count);
+        return generateQuiets(board, from, moves, count);
+    }
+
+    // captures and promotions, so a search can try them before any quiet move is generated
+    int generateCaptures(Board board, int from, int[] moves, int count);
+
+    int generateQuiets(Board board, int from, int[] moves, int count);
+
     MoveRecord makeMove(Board board, Square square);
 
 }
@@ -1,95 +1,82 @@
 package com.chess.piece;
 
+import com.chess.board.Attacks;
+import com.chess.board.Bitboards;
 import com.chess.board.Board;
 import com.chess.common.Location;
-import com.chess.common.LocationFactory;
+import com.chess.move.Move;
 import com.chess.move.MoveRecord;
 import com.chess.squares.Square;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-
 public class Pawn extends AbstractPiece implements Movable {
 
-
-    private boolean isFirstMove = true;
-
     public Pawn(PieceColor pieceColor) {
         super(pieceColor);
         this.name = "Pawn";
+        this.pieceType = PieceType.PAWN;
     }
 
     @Override
-    public List<Location> getValidMoves(Board board) {
-        return getValidMoves(board, this.getCurrentSquare());
-    }
+    public int generateCaptures(Board board, int from, int[] moves, int count) {
+        int forward = this.pieceColor == PieceColor.LIGHT ? 8 : -8;
+        int promotionRank = this.pieceColor == PieceColor.LIGHT ? 7 : 0;
+        long occupancy = board.getOccupancy();
+
+        // a push onto the last rank is a promotion and belongs with the captures
+        int singleStep = from + forward;
+        if (Bitboards.rankOf(from) + (forward > 0 ? 1 : -1) == promotionRank && !Bitboards.contains(occupancy, singleStep)) {
+            count = addPawnMove(from, singleStep, Move.QUIET, promotionRank, moves, count);
+        }
 
-    @Override
-    public List<Location> getValidMoves(Board board, Square square) {
-        if (board == null || square == null) {
-            return Collections.emptyList();
+        long captures = Attacks.pawnAttacks(this.pieceColor, from) & board.getOccupancy(this.pieceColor.opposite());
+        while (captures != 0) {
+            count = addPawnMove(from, Long.numberOfTrailingZeros(captures), Move.CAPTURE, promotionRank, moves, count);
+            captures &= captures - 1;
         }
 
-        Map<Location, Square> squareMap = board.getLocationSquareMap();
-        Location current = square.getLocation();
-        List<Location> moveCandidates = new ArrayList<>();
-
-        int direction = this.pieceColor == PieceColor.LIGHT ? 1 : -1;
-        int startingRank = this.pieceColor == PieceColor.LIGHT ? 2 : 7;
-
-        Location singleStep = LocationFactory.build(current, 0, direction);
-        if (singleStep != null) {
-            Square singleStepSquare = squareMap.get(singleStep);
-            if (!singleStepSquare.isOccupied()) {
-                moveCandidates.add(singleStep);
-
-                boolean canDoubleStep = square == this.getCurrentSquare() && current.getRank() == startingRank && !this.hasMoved();
-                if (canDoubleStep) {
-                    Location doubleStep = LocationFactory.build(current, 0, 2 * direction);
-                    if (doubleStep != null) {
-                        Square doubleStepSquare = squareMap.get(doubleStep);
-                        if (!doubleStepSquare.isOccupied()) {
-                            moveCandidates.add(doubleStep);
-                        }
-                    }
-                }
-            }
+        // the rank test keeps the side that just pushed from capturing onto its own skipped square
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare != Board.NO_SQUARE && Bitboards.contains(Attacks.pawnAttacks(this.pieceColor, from), enPassantSquare)
+                && Bitboards.rankOf(enPassantSquare) == (this.pieceColor == PieceColor.LIGHT ? 5 : 2)) {
+            moves[count++] = Move.of(from, enPassantSquare, Move.EN_PASSANT);
         }
 
-        int[] captureOffsets = {-1, 1};
-        for (int fileOffset : captureOffsets) {
-            Location capture = LocationFactory.build(current, fileOffset, direction);
-            if (capture == null) {
-                continue;
-            }
+        return count;
+    }
 
-            Square captureSquare = squareMap.get(capture);
-            if (captureSquare.isOccupied() && captureSquare.getCurrentPiece().getPieceColor() != this.pieceColor) {
-                moveCandidates.add(capture);
-            }
+    @Override
+    public int generateQuiets(Board board, int from, int[] moves, int count) {
+        int forward = this.pieceColor == PieceColor.LIGHT ? 8 : -8;
+        int startingRank = this.pieceColor == PieceColor.LIGHT ? 1 : 6;
+        int promotionRank = this.pieceColor == PieceColor.LIGHT ? 7 : 0;
+
+        long occupancy = board.getOccupancy();
+        int singleStep = from + forward;
+        if (singleStep < 0 || singleStep >= Bitboards.SQUARE_COUNT || Bitboards.rankOf(singleStep) == promotionRank
+                || Bitboards.contains(occupancy, singleStep)) {
+            return count;
         }
+        moves[count++] = Move.of(from, singleStep, Move.QUIET);
 
-        MoveRecord lastMove = board.getLastMove();
-        if (lastMove != null && lastMove.getPiece() instanceof Pawn && lastMove.isPawnDoubleAdvance()) {
-            Location lastTo = lastMove.getTo();
-            if (lastMove.getPiece().getPieceColor() != this.pieceColor && lastTo.getRank().equals(current.getRank())) {
-                int fileDifference = Math.abs(lastTo.getFile().ordinal() - current.getFile().ordinal());
-                if (fileDifference == 1) {
-                    int targetRank = current.getRank() + direction;
-                    if (targetRank >= 1 && targetRank <= 8) {
-                        Location enPassantTarget = new Location(lastTo.getFile(), targetRank);
-                        Square enPassantSquare = squareMap.get(enPassantTarget);
-                        if (enPassantSquare != null && !enPassantSquare.isOccupied()) {
-                            moveCandidates.add(enPassantTarget);
-                        }
-                    }
-                }
+        if (Bitboards.rankOf(from) == startingRank) {
+            int doubleStep = singleStep + forward;
+            if (!Bitboards.contains(occupancy, doubleStep)) {
+                moves[count++] = Move.of(from, doubleStep, Move.DOUBLE_PAWN_PUSH);
             }
         }
+        return count;
+    }
 
-        return moveCandidates;
+    private static int addPawnMove(int from, int to, int flags, int promotionRank, int[] moves, int count) {
+        if (Bitboards.rankOf(to) != promotionRank) {
+            moves[count++] = Move.of(from, to, flags);
+            return count;
+        }
+        moves[count++] = Move.of(from, to, flags | Move.QUEEN_PROMOTION);
+        moves[count++] = Move.of(from, to, flags | Move.ROOK_PROMOTION);
+        moves[count++] = Move.of(from, to, flags | Move.BISHOP_PROMOTION);
+        moves[count++] = Move.of(from, to, flags | Move.KNIGHT_PROMOTION);
+        return count;
     }
 
     @Override
@@ -102,14 +89,9 @@ public class Pawn extends AbstractPiece implements Movable {
         AbstractPiece capturedPiece = square.getCurrentPiece();
 
         if (!square.isOccupied() && !from.getFile().equals(to.getFile())) {
-            MoveRecord lastMove = board.getLastMove();
-            if (lastMove != null && lastMove.getPiece() instanceof Pawn && lastMove.isPawnDoubleAdvance() &&
-                    lastMove.getPiece().getPieceColor() != this.pieceColor &&
-                    lastMove.getTo().getFile().equals(to.getFile()) &&
-                    lastMove.getTo().getRank().equals(from.getRank())) {
-
-                Square capturedSquare = board.getLocationSquareMap().get(lastMove.getTo());
-                if (capturedSquare != null && capturedSquare.isOccupied()) {
+            if (to.getIndex() == board.getEnPassantSquare()) {
+                Square capturedSquare = board.getSquare(Location.of(to.getFile(), from.getRank()));
+                if (capturedSquare.isOccupied()) {
                     capturedPiece = capturedSquare.getCurrentPiece();
                     capturedSquare.setCurrentPiece(null);
                     capturedSquare.setOccupied(false);
@@ -126,8 +108,6 @@ public class Pawn extends AbstractPiece implements Movable {
             capturedPiece = moveCapture;
         }
 
-        isFirstMove = false;
-
         AbstractPiece promotionPiece = null;
         boolean promotionRankReached = (this.pieceColor == PieceColor.LIGHT && to.getRank() == 8)
                 || (this.pieceColor == PieceColor.DARK && to.getRank() == 1);
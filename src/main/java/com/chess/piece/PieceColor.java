@@ -1,5 +1,9 @@
 package com.chess.piece;
 
 public enum PieceColor {
-LIGHT,DARK
+    LIGHT, DARK;
+
+    public PieceColor opposite() {
+        return this == LIGHT ? DARK : LIGHT;
+    }
 }
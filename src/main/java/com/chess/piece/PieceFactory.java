@@ -1,50 +1,56 @@
 package com.chess.piece;
 
-import com.chess.common.File;
-import com.chess.common.Location;
-
-import java.util.HashMap;
-import java.util.Map;
-
 public final class PieceFactory {
-    private PieceFactory() {
+    // the starting position, by square from a1; shared template, only ever read
+    private static final PieceType[] INITIAL_TYPES = new PieceType[64];
+    private static final PieceColor[] INITIAL_COLORS = new PieceColor[64];
+
+    static {
+        PieceType[] backRank = {PieceType.ROOK, PieceType.KNIGHT, PieceType.BISHOP, PieceType.QUEEN,
+                PieceType.KING, PieceType.BISHOP, PieceType.KNIGHT, PieceType.ROOK};
+        for (int file = 0; file < 8; file++) {
+            setInitial(file, backRank[file], PieceColor.LIGHT);
+            setInitial(8 + file, PieceType.PAWN, PieceColor.LIGHT);
+            setInitial(48 + file, PieceType.PAWN, PieceColor.DARK);
+            setInitial(56 + file, backRank[file], PieceColor.DARK);
+        }
     }
 
-    public static Map<Location, AbstractPiece> getPieces() {
-        Map<Location, AbstractPiece> pieces = new HashMap<>();
-
-        //rooks
-        pieces.put(new Location(File.A, 1), new Rook(PieceColor.LIGHT));
-        pieces.put(new Location(File.H, 1), new Rook(PieceColor.LIGHT));
-        pieces.put(new Location(File.A, 8), new Rook(PieceColor.DARK));
-        pieces.put(new Location(File.H, 8), new Rook(PieceColor.DARK));
-
-        //knights
-        pieces.put(new Location(File.B, 1), new Knight(PieceColor.LIGHT));
-        pieces.put(new Location(File.G, 1), new Knight(PieceColor.LIGHT));
-        pieces.put(new Location(File.B, 8), new Knight(PieceColor.DARK));
-        pieces.put(new Location(File.G, 8), new Knight(PieceColor.DARK));
-
-        //bishops
-        pieces.put(new Location(File.C, 1), new Bishop(PieceColor.LIGHT));
-        pieces.put(new Location(File.F, 1), new Bishop(PieceColor.LIGHT));
-        pieces.put(new Location(File.C, 8), new Bishop(PieceColor.DARK));
-        pieces.put(new Location(File.F, 8), new Bishop(PieceColor.DARK));
-
-        //queens
-        pieces.put(new Location(File.D, 1), new Queen(PieceColor.LIGHT));
-        pieces.put(new Location(File.D, 8), new Queen(PieceColor.DARK));
+    private PieceFactory() {
+    }
 
-        //kings
-        pieces.put(new Location(File.E, 1), new King(PieceColor.LIGHT));
-        pieces.put(new Location(File.E, 8), new King(PieceColor.DARK));
+    private static void setInitial(int square, PieceType type, PieceColor color) {
+        INITIAL_TYPES[square] = type;
+        INITIAL_COLORS[square] = color;
+    }
 
-        //pawns
+    // fresh pieces for the starting position, indexed by square from a1
+    public static AbstractPiece[] createInitialPlacement() {
+        AbstractPiece[] placement = new AbstractPiece[INITIAL_TYPES.length];
+        for (int square = 0; square < placement.length; square++) {
+            if (INITIAL_TYPES[square] != null) {
+                placement[square] = create(INITIAL_TYPES[square], INITIAL_COLORS[square]);
+            }
+        }
+        return placement;
+    }
 
-        for (File file : File.values()) {
-            pieces.put(new Location(file, 2), new Pawn(PieceColor.LIGHT));
-            pieces.put(new Location(file, 7), new Pawn(PieceColor.DARK));
+    public static AbstractPiece create(PieceType pieceType, PieceColor pieceColor) {
+        switch (pieceType) {
+            case PAWN:
+                return new Pawn(pieceColor);
+            case KNIGHT:
+                return new Knight(pieceColor);
+            case BISHOP:
+                return new Bishop(pieceColor);
+            case ROOK:
+                return new Rook(pieceColor);
+            case QUEEN:
+                return new Queen(pieceColor);
+            case KING:
+                return new King(pieceColor);
+            default:
+                throw new IllegalArgumentException("Unknown piece type: " + pieceType);
         }
-        return pieces;
     }
 }
@@ -0,0 +1,5 @@
+package com.chess.piece;
+
+public enum PieceType {
+    PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING
+}
@@ -3,6 +3,8 @@ package com.chess.runner;
 import com.chess.board.Board;
 import com.chess.common.File;
 import com.chess.common.Location;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
 import com.chess.move.MoveRecord;
 import com.chess.piece.*;
 import com.chess.squares.Square;
@@ -58,8 +60,8 @@ public class Game {
                 continue;
             }
 
-            Square fromSq = board.getLocationSquareMap().get(new Location(fromFile, fromRank));
-            Square toSq = board.getLocationSquareMap().get(new Location(toFile, toRank));
+            Square fromSq = board.getLocationSquareMap().get(Location.of(fromFile, fromRank));
+            Square toSq = board.getLocationSquareMap().get(Location.of(toFile, toRank));
 
             if (fromSq == null) {
                 System.out.println("Başlangıç karesi tahtada bulunamadı.");
@@ -88,14 +90,19 @@ public class Game {
                 continue;
             }
 
-            MoveRecord moveRecord = movingPiece.makeMove(board, toSq);
-            board.setLastMove(moveRecord);
+            int move = MoveGenerator.findLegalMove(board, currentTurn, fromSq.getLocation().getIndex(), targetLocation.getIndex());
+            if (move == Move.NONE) {
+                System.out.println("Bu hamle şahı tehdit altında bırakıyor.");
+                continue;
+            }
+
+            MoveRecord moveRecord = board.make(move);
             if (moveRecord.getPromotionPiece() != null) {
                 System.out.printf("%s terfi ederek %s oldu.%n",
                         movingPiece.getClass().getSimpleName(),
                         moveRecord.getPromotionPiece().getName());
             }
-            currentTurn = (currentTurn == PieceColor.LIGHT) ? PieceColor.DARK : PieceColor.LIGHT;
+            currentTurn = board.getSideToMove();
 
             board.printBoard();
         }
@@ -0,0 +1,35 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.board.PieceSquareTables;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+public final class Evaluation {
+    private static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    private Evaluation() {
+    }
+
+    public static int pieceValue(PieceType type) {
+        return PIECE_VALUES[type.ordinal()];
+    }
+
+    public static int evaluate(Board board) {
+        return evaluate(board, PawnStructure.evaluate(board));
+    }
+
+    // pawn-structure terms come from the cache when the pawn key has been seen before
+    public static int evaluate(Board board, PawnTable pawnTable) {
+        return evaluate(board, pawnTable.evaluate(board));
+    }
+
+    // tapered between the board's running middlegame and endgame totals, from the side to move's view
+    private static int evaluate(Board board, long pawnTerms) {
+        int middlegame = board.getMiddlegameScore() + PawnStructure.middlegame(pawnTerms) + PawnStructure.kingShield(board);
+        int endgame = board.getEndgameScore() + PawnStructure.endgame(pawnTerms);
+        int phase = Math.min(board.getPhase(), PieceSquareTables.MAX_PHASE);
+        int score = (middlegame * phase + endgame * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+        return board.getSideToMove() == PieceColor.LIGHT ? score : -score;
+    }
+}
@@ -0,0 +1,155 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+class MovePicker {
+    private static final int STAGE_HASH = 0;
+    private static final int STAGE_GENERATE_CAPTURES = 1;
+    private static final int STAGE_CAPTURES = 2;
+    private static final int STAGE_KILLERS = 3;
+    private static final int STAGE_GENERATE_QUIETS = 4;
+    private static final int STAGE_QUIETS = 5;
+    private static final int STAGE_DONE = 6;
+    private static final int[] NO_KILLERS = {};
+
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private final int[] scores = new int[MoveGenerator.MAX_MOVES];
+
+    private Board board;
+    private PieceColor color;
+    private int hashMove;
+    private int[] killers;
+    private int[][] history;
+    private int stage;
+    private int index;
+    private int count;
+    private int killerIndex;
+    private boolean capturesOnly;
+
+    // quiescence only looks at captures and promotions
+    void resetCaptures(Board board) {
+        reset(board, Move.NONE, NO_KILLERS, null);
+        this.stage = STAGE_GENERATE_CAPTURES;
+        this.capturesOnly = true;
+    }
+
+    void reset(Board board, int hashMove, int[] killers, int[][] history) {
+        this.board = board;
+        this.color = board.getSideToMove();
+        this.hashMove = hashMove;
+        this.killers = killers;
+        this.history = history;
+        this.stage = STAGE_HASH;
+        this.index = 0;
+        this.count = 0;
+        this.killerIndex = 0;
+        this.capturesOnly = false;
+    }
+
+    // returns Move.NONE once every legal move has been handed out
+    int next() {
+        while (true) {
+            switch (stage) {
+                case STAGE_HASH:
+                    stage = STAGE_GENERATE_CAPTURES;
+                    if (MoveGenerator.isLegal(board, color, hashMove)) {
+                        return hashMove;
+                    }
+                    break;
+                case STAGE_GENERATE_CAPTURES:
+                    count = MoveGenerator.generateLegalCaptures(board, color, moves, 0);
+                    for (int i = 0; i < count; i++) {
+                        scores[i] = mvvLva(moves[i]);
+                    }
+                    index = 0;
+                    stage = STAGE_CAPTURES;
+                    break;
+                case STAGE_CAPTURES:
+                    while (index < count) {
+                        int move = pickBest();
+                        if (move != hashMove) {
+                            return move;
+                        }
+                    }
+                    stage = capturesOnly ? STAGE_DONE : STAGE_KILLERS;
+                    break;
+                case STAGE_KILLERS:
+                    while (killerIndex < killers.length) {
+                        int killer = killers[killerIndex++];
+                        if (killer != hashMove && !isNoisy(killer) && MoveGenerator.isLegal(board, color, killer)) {
+                            return killer;
+                        }
+                    }
+                    stage = STAGE_GENERATE_QUIETS;
+                    break;
+                case STAGE_GENERATE_QUIETS:
+                    count = MoveGenerator.generateLegalQuiets(board, color, moves, 0);
+                    for (int i = 0; i < count; i++) {
+                        scores[i] = history[Move.from(moves[i])][Move.to(moves[i])];
+                    }
+                    index = 0;
+                    stage = STAGE_QUIETS;
+                    break;
+                case STAGE_QUIETS:
+                    while (index < count) {
+                        int move = pickBest();
+                        if (move != hashMove && !isKiller(move)) {
+                            return move;
+                        }
+                    }
+                    stage = STAGE_DONE;
+                    break;
+                default:
+                    return Move.NONE;
+            }
+        }
+    }
+
+    static boolean isNoisy(int move) {
+        return Move.isCapture(move) || Move.isPromotion(move);
+    }
+
+    // selection sort one step at a time, so a cutoff skips sorting the rest
+    private int pickBest() {
+        int best = index;
+        for (int i = index + 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        int move = moves[best];
+        moves[best] = moves[index];
+        scores[best] = scores[index];
+        index++;
+        return move;
+    }
+
+    private boolean isKiller(int move) {
+        for (int killer : killers) {
+            if (killer == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // most valuable victim first, least valuable attacker breaking ties
+    private int mvvLva(int move) {
+        int score = 0;
+        if (Move.isPromotion(move)) {
+            score += Evaluation.pieceValue(Move.promotionType(move));
+        }
+        if (Move.isCapture(move)) {
+            AbstractPiece victim = board.getSquare(Move.to(move)).getCurrentPiece();
+            int victimValue = victim == null ? Evaluation.pieceValue(PieceType.PAWN) : Evaluation.pieceValue(victim.getPieceType());
+            AbstractPiece attacker = board.getSquare(Move.from(move)).getCurrentPiece();
+            score += 16 * victimValue - attacker.getPieceType().ordinal();
+        }
+        return score;
+    }
+}
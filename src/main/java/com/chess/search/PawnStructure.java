@@ -0,0 +1,154 @@
+package com.chess.search;
+
+import com.chess.board.Attacks;
+import com.chess.board.Bitboards;
+import com.chess.board.Board;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+public final class PawnStructure {
+    private static final int DOUBLED_MIDDLEGAME = -10;
+    private static final int DOUBLED_ENDGAME = -20;
+    private static final int ISOLATED_MIDDLEGAME = -10;
+    private static final int ISOLATED_ENDGAME = -15;
+    private static final int BACKWARD_MIDDLEGAME = -8;
+    private static final int BACKWARD_ENDGAME = -10;
+    // indexed by how far the pawn has advanced, rank 2 being 1
+    private static final int[] PASSED_MIDDLEGAME = {0, 5, 10, 15, 25, 40, 60, 0};
+    private static final int[] PASSED_ENDGAME = {0, 10, 20, 35, 60, 100, 150, 0};
+    private static final int SHIELD_NEAR = 12;
+    private static final int SHIELD_FAR = 6;
+
+    private static final long FILE_A = 0x0101_0101_0101_0101L;
+    private static final long[] FILES = new long[8];
+    private static final long[] ADJACENT_FILES = new long[8];
+    // squares in front of a pawn on its own and neighbouring files; no enemy pawn there means it is passed
+    private static final long[][] PASSED_MASKS = new long[2][Bitboards.SQUARE_COUNT];
+    // squares beside and behind a pawn where a friendly pawn could still come to support it
+    private static final long[][] SUPPORT_MASKS = new long[2][Bitboards.SQUARE_COUNT];
+    private static final long[][] SHIELD_NEAR_MASKS = new long[2][Bitboards.SQUARE_COUNT];
+    private static final long[][] SHIELD_FAR_MASKS = new long[2][Bitboards.SQUARE_COUNT];
+
+    static {
+        for (int file = 0; file < 8; file++) {
+            FILES[file] = FILE_A << file;
+        }
+        for (int file = 0; file < 8; file++) {
+            ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : 0) | (file < 7 ? FILES[file + 1] : 0);
+        }
+        for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+            int file = Bitboards.fileOf(square);
+            int rank = Bitboards.rankOf(square);
+            long span = FILES[file] | ADJACENT_FILES[file];
+            for (int other = 0; other < Bitboards.SQUARE_COUNT; other++) {
+                int otherRank = Bitboards.rankOf(other);
+                long bit = Bitboards.bit(other);
+                if ((span & bit) == 0) {
+                    continue;
+                }
+                if (otherRank > rank) {
+                    PASSED_MASKS[PieceColor.LIGHT.ordinal()][square] |= bit;
+                }
+                if (otherRank < rank) {
+                    PASSED_MASKS[PieceColor.DARK.ordinal()][square] |= bit;
+                }
+                if ((ADJACENT_FILES[file] & bit) != 0) {
+                    if (otherRank <= rank) {
+                        SUPPORT_MASKS[PieceColor.LIGHT.ordinal()][square] |= bit;
+                    }
+                    if (otherRank >= rank) {
+                        SUPPORT_MASKS[PieceColor.DARK.ordinal()][square] |= bit;
+                    }
+                }
+                if (otherRank == rank + 1) {
+                    SHIELD_NEAR_MASKS[PieceColor.LIGHT.ordinal()][square] |= bit;
+                }
+                if (otherRank == rank + 2) {
+                    SHIELD_FAR_MASKS[PieceColor.LIGHT.ordinal()][square] |= bit;
+                }
+                if (otherRank == rank - 1) {
+                    SHIELD_NEAR_MASKS[PieceColor.DARK.ordinal()][square] |= bit;
+                }
+                if (otherRank == rank - 2) {
+                    SHIELD_FAR_MASKS[PieceColor.DARK.ordinal()][square] |= bit;
+                }
+            }
+        }
+    }
+
+    private PawnStructure() {
+    }
+
+    // doubled, isolated, backward and passed pawn terms from White's point of view, packed by pack()
+    public static long evaluate(Board board) {
+        int middlegame = 0;
+        int endgame = 0;
+        for (PieceColor color : PieceColor.values()) {
+            int sign = color == PieceColor.LIGHT ? 1 : -1;
+            long own = board.getPieces(color, PieceType.PAWN);
+            long enemy = board.getPieces(color.opposite(), PieceType.PAWN);
+            long enemyAttacks = Attacks.allPawnAttacks(color.opposite(), enemy);
+
+            for (int file = 0; file < 8; file++) {
+                int onFile = Long.bitCount(own & FILES[file]);
+                if (onFile > 1) {
+                    middlegame += sign * DOUBLED_MIDDLEGAME * (onFile - 1);
+                    endgame += sign * DOUBLED_ENDGAME * (onFile - 1);
+                }
+            }
+
+            long pawns = own;
+            while (pawns != 0) {
+                int square = Long.numberOfTrailingZeros(pawns);
+                pawns &= pawns - 1;
+                int file = Bitboards.fileOf(square);
+
+                if ((own & ADJACENT_FILES[file]) == 0) {
+                    middlegame += sign * ISOLATED_MIDDLEGAME;
+                    endgame += sign * ISOLATED_ENDGAME;
+                } else {
+                    int stop = color == PieceColor.LIGHT ? square + 8 : square - 8;
+                    if ((own & SUPPORT_MASKS[color.ordinal()][square]) == 0 && (enemyAttacks & Bitboards.bit(stop)) != 0) {
+                        middlegame += sign * BACKWARD_MIDDLEGAME;
+                        endgame += sign * BACKWARD_ENDGAME;
+                    }
+                }
+
+                if ((enemy & PASSED_MASKS[color.ordinal()][square]) == 0) {
+                    int advance = color == PieceColor.LIGHT ? Bitboards.rankOf(square) : 7 - Bitboards.rankOf(square);
+                    middlegame += sign * PASSED_MIDDLEGAME[advance];
+                    endgame += sign * PASSED_ENDGAME[advance];
+                }
+            }
+        }
+        return pack(middlegame, endgame);
+    }
+
+    // pawns right in front of each king, which depends on the king square and so stays out of the pawn cache
+    public static int kingShield(Board board) {
+        int score = 0;
+        for (PieceColor color : PieceColor.values()) {
+            int king = board.getKingSquare(color);
+            if (king < 0) {
+                continue;
+            }
+            long own = board.getPieces(color, PieceType.PAWN);
+            int shield = SHIELD_NEAR * Long.bitCount(own & SHIELD_NEAR_MASKS[color.ordinal()][king])
+                    + SHIELD_FAR * Long.bitCount(own & SHIELD_FAR_MASKS[color.ordinal()][king]);
+            score += color == PieceColor.LIGHT ? shield : -shield;
+        }
+        return score;
+    }
+
+    public static long pack(int middlegame, int endgame) {
+        return ((long) middlegame << 32) | (endgame & 0xFFFF_FFFFL);
+    }
+
+    public static int middlegame(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int endgame(long packed) {
+        return (int) packed;
+    }
+}
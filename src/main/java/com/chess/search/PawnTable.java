@@ -0,0 +1,50 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+
+public class PawnTable {
+    private final long[] keys;
+    private final long[] scores;
+    private final int mask;
+    private long hits;
+    private long misses;
+
+    public PawnTable(int entries) {
+        if (entries <= 0) {
+            throw new IllegalArgumentException("Pawn table needs at least one entry");
+        }
+        int size = Integer.highestOneBit(entries);
+        this.keys = new long[size];
+        this.scores = new long[size];
+        this.mask = size - 1;
+    }
+
+    // an empty slot reads as key 0 with score 0, which is exactly the entry for a board without pawns
+    public long evaluate(Board board) {
+        long key = board.getPawnKey();
+        int slot = (int) key & mask;
+        if (keys[slot] == key) {
+            hits++;
+            return scores[slot];
+        }
+
+        misses++;
+        long score = PawnStructure.evaluate(board);
+        keys[slot] = key;
+        scores[slot] = score;
+        return score;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        long probes = hits + misses;
+        return probes == 0 ? 0 : (double) hits / probes;
+    }
+}
@@ -0,0 +1,142 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class Search {
+    public static final int INFINITY = 32_000;
+    public static final int MATE = 31_000;
+    public static final int MAX_PLY = 128;
+    public static final int MATE_BOUND = MATE - MAX_PLY;
+    public static final int DRAW = 0;
+
+    private final TranspositionTable table;
+    private final int threads;
+    private final SearchOptions options;
+    private volatile AtomicBoolean currentStop;
+    // set by cancel() so a request that arrives before search() has started is not lost
+    private volatile boolean cancelled;
+
+    public Search(TranspositionTable table) {
+        this(table, 1);
+    }
+
+    public Search(TranspositionTable table, int threads) {
+        this(table, threads, SearchOptions.defaults());
+    }
+
+    public Search(TranspositionTable table, int threads, SearchOptions options) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.table = table;
+        this.threads = threads;
+        this.options = options;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public SearchResult search(Board board, int maxDepth, long timeMillis) {
+        return search(board, SearchLimits.of(maxDepth, timeMillis));
+    }
+
+    public SearchResult search(Board board, SearchLimits limits) {
+        long start = System.currentTimeMillis();
+        long softDeadline = start + limits.getSoftTimeMillis();
+        long hardDeadline = start + limits.getHardTimeMillis();
+        AtomicBoolean stop = new AtomicBoolean();
+        currentStop = stop;
+        // cancel() sets the flag before reading currentStop, so one of the two always sees the other
+        if (cancelled) {
+            stop.set(true);
+        }
+        table.newSearch();
+
+        int[] rootMoves = new int[MoveGenerator.MAX_MOVES];
+        int rootCount = MoveGenerator.generateLegal(board, board.getSideToMove(), rootMoves);
+        if (rootCount == 0) {
+            cancelled = false;
+            int score = board.isInCheck(board.getSideToMove()) ? -MATE : DRAW;
+            return new SearchResult(Move.NONE, score, 0, 0, 0, new int[0]);
+        }
+
+        int depthLimit = Math.min(limits.getMaxDepth(), MAX_PLY - 1);
+        List<SearchWorker> workers = new ArrayList<>(threads);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(threads - 1);
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads - 1) : null;
+
+        // a legal move is always available, even if the first iteration is cut short
+        SearchResult result = new SearchResult(rootMoves[0], 0, 0, 0, 0, new int[]{rootMoves[0]});
+        try {
+            for (int id = 1; id < threads; id++) {
+                SearchWorker helper = new SearchWorker(table, options, board.copy(), stop, hardDeadline);
+                workers.add(helper);
+                // odd helpers run one ply ahead so the threads spread over different depths
+                int firstDepth = Math.min(1 + (id & 1), depthLimit);
+                tasks.add(pool.submit(() -> runHelper(helper, firstDepth, depthLimit, stop)));
+            }
+
+            SearchWorker main = new SearchWorker(table, options, board, stop, hardDeadline);
+            workers.add(main);
+            for (int depth = 1; depth <= depthLimit; depth++) {
+                int score = main.search(depth, result.getScore());
+                if (main.isStopped()) {
+                    break;
+                }
+
+                int[] pv = main.getPrincipalVariation();
+                result = new SearchResult(pv[0], score, depth, 0, 0, pv);
+                if (Math.abs(score) >= MATE_BOUND || System.currentTimeMillis() >= softDeadline) {
+                    break;
+                }
+            }
+        } finally {
+            cancelled = false;
+            stop.set(true);
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        long nodes = 0;
+        long pawnHits = 0;
+        long pawnMisses = 0;
+        for (SearchWorker worker : workers) {
+            nodes += worker.getNodes();
+            pawnHits += worker.getPawnTable().getHits();
+            pawnMisses += worker.getPawnTable().getMisses();
+        }
+        return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), nodes,
+                System.currentTimeMillis() - start, result.getPrincipalVariation(), pawnHits, pawnMisses,
+                table.hashfull());
+    }
+
+    // stops the search in progress, or the next one if it has not started yet;
+    // it still returns the last completed iteration, or the first legal move
+    public void cancel() {
+        cancelled = true;
+        AtomicBoolean stop = currentStop;
+        if (stop != null) {
+            stop.set(true);
+        }
+    }
+
+    private static void runHelper(SearchWorker helper, int firstDepth, int depthLimit, AtomicBoolean stop) {
+        int score = 0;
+        for (int depth = firstDepth; depth <= depthLimit && !stop.get(); depth++) {
+            score = helper.search(depth, score);
+        }
+    }
+}
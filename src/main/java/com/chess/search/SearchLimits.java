@@ -0,0 +1,76 @@
+package com.chess.search;
+
+public class SearchLimits {
+    private static final long NO_LIMIT = Long.MAX_VALUE / 4;
+    // left on the clock for the HTTP round trip and scheduling jitter
+    private static final long CLOCK_SAFETY_MS = 50;
+    private static final int EXPECTED_MOVES_LEFT = 30;
+
+    private final int maxDepth;
+    private final long softTimeMillis;
+    private final long hardTimeMillis;
+
+    private SearchLimits(Builder builder) {
+        this.maxDepth = builder.maxDepth;
+        this.softTimeMillis = builder.softTimeMillis;
+        this.hardTimeMillis = Math.max(builder.softTimeMillis, builder.hardTimeMillis);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    // no new iteration is started once this much time has passed
+    public long getSoftTimeMillis() {
+        return softTimeMillis;
+    }
+
+    // a running iteration is abandoned at this point
+    public long getHardTimeMillis() {
+        return hardTimeMillis;
+    }
+
+    public static SearchLimits of(int maxDepth, long timeMillis) {
+        return builder().maxDepth(maxDepth).softTime(timeMillis).hardTime(timeMillis).build();
+    }
+
+    // spreads the remaining time over the moves still to play, banking most of the increment
+    public static SearchLimits forClock(int maxDepth, long remainingMillis, long incrementMillis) {
+        long available = Math.max(1, remainingMillis - Math.min(CLOCK_SAFETY_MS, remainingMillis / 10));
+        long soft = Math.min(available, Math.max(1, available / EXPECTED_MOVES_LEFT + incrementMillis * 3 / 4));
+        long hard = Math.min(available, Math.max(soft, Math.min(soft * 4, available / 4 + incrementMillis)));
+        return builder().maxDepth(maxDepth).softTime(soft).hardTime(hard).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int maxDepth = Search.MAX_PLY - 1;
+        private long softTimeMillis = NO_LIMIT;
+        private long hardTimeMillis = NO_LIMIT;
+
+        private Builder() {
+        }
+
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder softTime(long softTimeMillis) {
+            this.softTimeMillis = softTimeMillis;
+            return this;
+        }
+
+        public Builder hardTime(long hardTimeMillis) {
+            this.hardTimeMillis = hardTimeMillis;
+            return this;
+        }
+
+        public SearchLimits build() {
+            return new SearchLimits(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.chess.search;
+
+public class SearchOptions {
+    private final boolean nullMovePruning;
+    private final boolean lateMoveReductions;
+    private final boolean aspirationWindows;
+
+    private SearchOptions(Builder builder) {
+        this.nullMovePruning = builder.nullMovePruning;
+        this.lateMoveReductions = builder.lateMoveReductions;
+        this.aspirationWindows = builder.aspirationWindows;
+    }
+
+    public boolean isNullMovePruning() {
+        return nullMovePruning;
+    }
+
+    public boolean isLateMoveReductions() {
+        return lateMoveReductions;
+    }
+
+    public boolean isAspirationWindows() {
+        return aspirationWindows;
+    }
+
+    public static SearchOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private boolean nullMovePruning = true;
+        private boolean lateMoveReductions = true;
+        private boolean aspirationWindows = true;
+
+        private Builder() {
+        }
+
+        public Builder nullMovePruning(boolean nullMovePruning) {
+            this.nullMovePruning = nullMovePruning;
+            return this;
+        }
+
+        public Builder lateMoveReductions(boolean lateMoveReductions) {
+            this.lateMoveReductions = lateMoveReductions;
+            return this;
+        }
+
+        public Builder aspirationWindows(boolean aspirationWindows) {
+            this.aspirationWindows = aspirationWindows;
+            return this;
+        }
+
+        public SearchOptions build() {
+            return new SearchOptions(this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.chess.search;
+
+import com.chess.move.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedMillis;
+    private final int[] principalVariation;
+    private final long pawnTableHits;
+    private final long pawnTableMisses;
+    private final int hashfull;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long elapsedMillis, int[] principalVariation) {
+        this(bestMove, score, depth, nodes, elapsedMillis, principalVariation, 0, 0, 0);
+    }
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long elapsedMillis, int[] principalVariation,
+                        long pawnTableHits, long pawnTableMisses, int hashfull) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+        this.principalVariation = principalVariation;
+        this.pawnTableHits = pawnTableHits;
+        this.pawnTableMisses = pawnTableMisses;
+        this.hashfull = hashfull;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public int[] getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    public List<String> getPrincipalVariationNotation() {
+        List<String> notation = new ArrayList<>(principalVariation.length);
+        for (int move : principalVariation) {
+            notation.add(Move.toString(move));
+        }
+        return notation;
+    }
+
+    // the per-ply growth that would produce this many nodes at this depth
+    public double getEffectiveBranchingFactor() {
+        return depth == 0 || nodes == 0 ? 0 : Math.pow(nodes, 1.0 / depth);
+    }
+
+    public long getPawnTableHits() {
+        return pawnTableHits;
+    }
+
+    public long getPawnTableMisses() {
+        return pawnTableMisses;
+    }
+
+    public double getPawnTableHitRate() {
+        long probes = pawnTableHits + pawnTableMisses;
+        return probes == 0 ? 0 : (double) pawnTableHits / probes;
+    }
+
+    // permille of the transposition table written by this search
+    public int getHashfull() {
+        return hashfull;
+    }
+
+    public boolean isMateScore() {
+        return Math.abs(score) >= Search.MATE_BOUND;
+    }
+}
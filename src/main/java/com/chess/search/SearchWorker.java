@@ -0,0 +1,348 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.chess.search.Search.DRAW;
+import static com.chess.search.Search.INFINITY;
+import static com.chess.search.Search.MATE;
+import static com.chess.search.Search.MATE_BOUND;
+import static com.chess.search.Search.MAX_PLY;
+
+class SearchWorker {
+    private static final int STOP_CHECK_INTERVAL = 1024;
+    private static final int KILLERS_PER_PLY = 2;
+    private static final int HISTORY_LIMIT = 1 << 20;
+    private static final int PAWN_TABLE_ENTRIES = 1 << 14;
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int LMR_MIN_DEPTH = 3;
+    private static final int LMR_FULL_DEPTH_MOVES = 3;
+    private static final int ASPIRATION_MIN_DEPTH = 4;
+    private static final int ASPIRATION_WINDOW = 25;
+    private static final int[][] REDUCTIONS = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+
+    static {
+        for (int depth = 1; depth < MAX_PLY; depth++) {
+            for (int moveNumber = 1; moveNumber < MoveGenerator.MAX_MOVES; moveNumber++) {
+                REDUCTIONS[depth][moveNumber] = (int) (0.75 + Math.log(depth) * Math.log(moveNumber) / 2.25);
+            }
+        }
+    }
+
+    private final TranspositionTable table;
+    private final SearchOptions options;
+    private final Board board;
+    private final AtomicBoolean stop;
+    private final long deadline;
+    private final MovePicker[] pickers = new MovePicker[MAX_PLY];
+    private final int[][] killers = new int[MAX_PLY][KILLERS_PER_PLY];
+    private final int[][][] history = new int[2][64][64];
+    // per worker, so helper threads never contend on it
+    private final PawnTable pawnTable = new PawnTable(PAWN_TABLE_ENTRIES);
+    private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+    private final int[] pvLength = new int[MAX_PLY];
+    private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGES];
+
+    private long nodes;
+    private boolean stopped;
+
+    SearchWorker(TranspositionTable table, SearchOptions options, Board board, AtomicBoolean stop, long deadline) {
+        this.table = table;
+        this.options = options;
+        this.board = board;
+        this.stop = stop;
+        this.deadline = deadline;
+        for (int ply = 0; ply < MAX_PLY; ply++) {
+            pickers[ply] = new MovePicker();
+        }
+    }
+
+    // one iteration, searched in a narrow window around the previous score when that is enabled
+    int search(int depth, int previousScore) {
+        if (!options.isAspirationWindows() || depth < ASPIRATION_MIN_DEPTH || Math.abs(previousScore) >= MATE_BOUND) {
+            return negamax(depth, 0, -INFINITY, INFINITY, false);
+        }
+
+        int delta = ASPIRATION_WINDOW;
+        int alpha = Math.max(previousScore - delta, -INFINITY);
+        int beta = Math.min(previousScore + delta, INFINITY);
+        while (true) {
+            int score = negamax(depth, 0, alpha, beta, false);
+            if (stopped) {
+                return score;
+            }
+            if (score <= alpha) {
+                alpha = Math.max(score - delta, -INFINITY);
+            } else if (score >= beta) {
+                beta = Math.min(score + delta, INFINITY);
+            } else {
+                return score;
+            }
+            delta *= 2;
+        }
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+
+    PawnTable getPawnTable() {
+        return pawnTable;
+    }
+
+    int[] getPrincipalVariation() {
+        return Arrays.copyOf(pvTable[0], pvLength[0]);
+    }
+
+    private int negamax(int depth, int ply, int alpha, int beta, boolean afterNullMove) {
+        pvLength[ply] = 0;
+        if (++nodes % STOP_CHECK_INTERVAL == 0) {
+            checkStop();
+        }
+        if (stopped) {
+            return 0;
+        }
+        if (ply > 0 && (board.isFiftyMoveRule() || board.isRepetition())) {
+            return DRAW;
+        }
+
+        int originalAlpha = alpha;
+        long key = board.getZobristKey();
+        int hashMove = Move.NONE;
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.MISS) {
+            hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int score = scoreFromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT
+                        || (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+                        || (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        if (depth == 0 || ply >= MAX_PLY - 1) {
+            return quiescence(ply, alpha, beta);
+        }
+
+        PieceColor side = board.getSideToMove();
+        boolean inCheck = board.isInCheck(side);
+        boolean pvNode = beta - alpha > 1;
+
+        // if passing still fails high, a real move will too; not tried in pawn endings where zugzwang is common
+        if (options.isNullMovePruning() && !pvNode && !inCheck && !afterNullMove && ply > 0
+                && depth >= NULL_MOVE_MIN_DEPTH && Math.abs(beta) < MATE_BOUND
+                && hasNonPawnMaterial(side) && Evaluation.evaluate(board, pawnTable) >= beta) {
+            int reduction = 2 + depth / 4;
+            MoveRecord previous = board.makeNullMove();
+            int score = -negamax(Math.max(0, depth - 1 - reduction), ply + 1, -beta, -beta + 1, true);
+            board.unmakeNullMove(previous);
+            if (stopped) {
+                return 0;
+            }
+            if (score >= beta) {
+                return score >= MATE_BOUND ? beta : score;
+            }
+        }
+
+        int[][] sideHistory = history[side.ordinal()];
+        MovePicker picker = pickers[ply];
+        picker.reset(board, hashMove, killers[ply], sideHistory);
+
+        int bestScore = -INFINITY;
+        int bestMove = Move.NONE;
+        int movesSearched = 0;
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            MoveRecord record = board.make(move);
+            int score;
+            if (movesSearched == 0) {
+                score = -negamax(depth - 1, ply + 1, -beta, -alpha, false);
+            } else {
+                // later moves are expected to fail low, so they get a null window and quiet ones a shallower search
+                int reduction = 0;
+                if (options.isLateMoveReductions() && depth >= LMR_MIN_DEPTH && movesSearched >= LMR_FULL_DEPTH_MOVES
+                        && !inCheck && !MovePicker.isNoisy(move) && !board.isInCheck(board.getSideToMove())) {
+                    reduction = Math.min(REDUCTIONS[depth][Math.min(movesSearched, MoveGenerator.MAX_MOVES - 1)], depth - 2);
+                }
+                score = -negamax(depth - 1 - reduction, ply + 1, -alpha - 1, -alpha, false);
+                if (score > alpha && reduction > 0) {
+                    score = -negamax(depth - 1, ply + 1, -alpha - 1, -alpha, false);
+                }
+                if (score > alpha && score < beta) {
+                    score = -negamax(depth - 1, ply + 1, -beta, -alpha, false);
+                }
+            }
+            board.unmake(record);
+            movesSearched++;
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if (alpha >= beta) {
+                        if (!MovePicker.isNoisy(move)) {
+                            rememberQuietCutoff(ply, move, depth, sideHistory);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (bestMove == Move.NONE) {
+            return inCheck ? -MATE + ply : DRAW;
+        }
+
+        int bound = bestScore >= beta ? TranspositionTable.BOUND_LOWER
+                : bestScore > originalAlpha ? TranspositionTable.BOUND_EXACT
+                : TranspositionTable.BOUND_UPPER;
+        table.store(key, bestMove, scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    // resolves captures past the horizon so the static score is only read in quiet positions
+    private int quiescence(int ply, int alpha, int beta) {
+        pvLength[ply] = 0;
+        if (++nodes % STOP_CHECK_INTERVAL == 0) {
+            checkStop();
+        }
+        if (stopped) {
+            return 0;
+        }
+        if (ply >= MAX_PLY - 1) {
+            return Evaluation.evaluate(board, pawnTable);
+        }
+
+        // in check every evasion is searched, otherwise the side to move may stand pat
+        boolean inCheck = board.isInCheck(board.getSideToMove());
+        int bestScore = -INFINITY;
+        if (!inCheck) {
+            bestScore = Evaluation.evaluate(board, pawnTable);
+            if (bestScore >= beta) {
+                return bestScore;
+            }
+            alpha = Math.max(alpha, bestScore);
+        }
+
+        MovePicker picker = pickers[ply];
+        if (inCheck) {
+            picker.reset(board, Move.NONE, killers[ply], history[board.getSideToMove().ordinal()]);
+        } else {
+            picker.resetCaptures(board);
+        }
+
+        boolean anyLegal = false;
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            anyLegal = true;
+            // losing captures are skipped without being played
+            if (!inCheck && !Move.isPromotion(move) && StaticExchange.evaluate(board, move, exchangeGains) < 0) {
+                continue;
+            }
+
+            MoveRecord record = board.make(move);
+            int score = -quiescence(ply + 1, -beta, -alpha);
+            board.unmake(record);
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (inCheck && !anyLegal) {
+            return -MATE + ply;
+        }
+        return bestScore;
+    }
+
+    // the shared flag and the clock are only read every few nodes to keep the hot path cheap
+    private void checkStop() {
+        if (stop.get()) {
+            stopped = true;
+        } else if (System.currentTimeMillis() >= deadline) {
+            stop.set(true);
+            stopped = true;
+        }
+    }
+
+    private boolean hasNonPawnMaterial(PieceColor color) {
+        return (board.getPieces(color, PieceType.KNIGHT) | board.getPieces(color, PieceType.BISHOP)
+                | board.getPieces(color, PieceType.ROOK) | board.getPieces(color, PieceType.QUEEN)) != 0;
+    }
+
+    private void updatePrincipalVariation(int ply, int move) {
+        pvTable[ply][0] = move;
+        System.arraycopy(pvTable[ply + 1], 0, pvTable[ply], 1, pvLength[ply + 1]);
+        pvLength[ply] = pvLength[ply + 1] + 1;
+    }
+
+    private void rememberQuietCutoff(int ply, int move, int depth, int[][] sideHistory) {
+        int[] plyKillers = killers[ply];
+        if (plyKillers[0] != move) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = move;
+        }
+
+        int from = Move.from(move);
+        int to = Move.to(move);
+        sideHistory[from][to] += depth * depth;
+        if (sideHistory[from][to] > HISTORY_LIMIT) {
+            // halving keeps the relative order while leaving room for new cutoffs
+            for (int[] row : sideHistory) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+        }
+    }
+
+    // mate scores are stored relative to the node so they stay valid at other plies
+    private static int scoreToTable(int score, int ply) {
+        if (score >= MATE_BOUND) {
+            return score + ply;
+        }
+        if (score <= -MATE_BOUND) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= MATE_BOUND) {
+            return score - ply;
+        }
+        if (score <= -MATE_BOUND) {
+            return score + ply;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,92 @@
+package com.chess.search;
+
+import com.chess.board.Attacks;
+import com.chess.board.Bitboards;
+import com.chess.board.Board;
+import com.chess.move.Move;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+
+public final class StaticExchange {
+    static final int MAX_EXCHANGES = 32;
+    // the king only ends an exchange, so it is worth more than anything it could win
+    private static final int KING_VALUE = 20_000;
+    // cheapest first
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private StaticExchange() {
+    }
+
+    // material won by the side making the move if both sides keep recapturing on the target square
+    // with their cheapest attacker, stopping whenever that stops paying; gain holds MAX_EXCHANGES entries
+    public static int evaluate(Board board, int move, int[] gain) {
+        if (Move.isCastling(move)) {
+            return 0;
+        }
+
+        int from = Move.from(move);
+        int to = Move.to(move);
+        PieceColor side = board.getSquare(from).getCurrentPiece().getPieceColor();
+        int attackerValue = value(board.getSquare(from).getCurrentPiece().getPieceType());
+
+        long occupancy = board.getOccupancy();
+        gain[0] = 0;
+        if (Move.isEnPassant(move)) {
+            gain[0] = value(PieceType.PAWN);
+            occupancy ^= Bitboards.bit(Bitboards.squareIndex(Bitboards.fileOf(to), Bitboards.rankOf(from)));
+        } else if (board.getSquare(to).getCurrentPiece() != null) {
+            gain[0] = value(board.getSquare(to).getCurrentPiece().getPieceType());
+        }
+        if (Move.isPromotion(move)) {
+            int promotionValue = value(Move.promotionType(move));
+            gain[0] += promotionValue - value(PieceType.PAWN);
+            attackerValue = promotionValue;
+        }
+
+        long bishopsQueens = board.getPieces(PieceColor.LIGHT, PieceType.BISHOP) | board.getPieces(PieceColor.DARK, PieceType.BISHOP)
+                | board.getPieces(PieceColor.LIGHT, PieceType.QUEEN) | board.getPieces(PieceColor.DARK, PieceType.QUEEN);
+        long rooksQueens = board.getPieces(PieceColor.LIGHT, PieceType.ROOK) | board.getPieces(PieceColor.DARK, PieceType.ROOK)
+                | board.getPieces(PieceColor.LIGHT, PieceType.QUEEN) | board.getPieces(PieceColor.DARK, PieceType.QUEEN);
+
+        long fromBit = Bitboards.bit(from);
+        long attackers = board.attackersTo(to, occupancy);
+        int depth = 0;
+        while (depth + 1 < MAX_EXCHANGES) {
+            depth++;
+            // value of the piece now standing on the target square, minus what the other side has banked
+            gain[depth] = attackerValue - gain[depth - 1];
+            if (Math.max(-gain[depth - 1], gain[depth]) < 0) {
+                break;
+            }
+
+            occupancy ^= fromBit;
+            // removing the capturer can uncover a slider lined up behind it
+            attackers |= (Attacks.bishopAttacks(to, occupancy) & bishopsQueens)
+                    | (Attacks.rookAttacks(to, occupancy) & rooksQueens);
+            attackers &= occupancy;
+
+            side = side.opposite();
+            fromBit = Bitboards.EMPTY;
+            for (PieceType type : PIECE_TYPES) {
+                long candidates = attackers & board.getPieces(side, type);
+                if (candidates != 0) {
+                    fromBit = candidates & -candidates;
+                    attackerValue = value(type);
+                    break;
+                }
+            }
+            if (fromBit == 0) {
+                break;
+            }
+        }
+
+        while (--depth > 0) {
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+        }
+        return gain[0];
+    }
+
+    private static int value(PieceType type) {
+        return type == PieceType.KING ? KING_VALUE : Evaluation.pieceValue(type);
+    }
+}
@@ -0,0 +1,140 @@
+package com.chess.search;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final int BOUND_NONE = 0;
+    public static final int BOUND_UPPER = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_EXACT = 3;
+
+    public static final long MISS = 0L;
+
+    private static final int ENTRIES_PER_BUCKET = 4;
+    // each entry is two longs: the key XOR-ed with the data, then the data itself
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int BYTES_PER_BUCKET = ENTRIES_PER_BUCKET * LONGS_PER_ENTRY * Long.BYTES;
+    private static final int AGE_MASK = 0x3F;
+
+    private final long[] table;
+    private final int bucketMask;
+    private volatile int age;
+
+    public TranspositionTable(int sizeMb) {
+        if (sizeMb <= 0) {
+            throw new IllegalArgumentException("Transposition table size must be positive");
+        }
+        long buckets = Long.highestOneBit((long) sizeMb * 1024 * 1024 / BYTES_PER_BUCKET);
+        int maxBuckets = Integer.highestOneBit(Integer.MAX_VALUE / (ENTRIES_PER_BUCKET * LONGS_PER_ENTRY));
+        int bucketCount = (int) Math.max(1, Math.min(buckets, maxBuckets));
+        this.table = new long[bucketCount * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY];
+        this.bucketMask = bucketCount - 1;
+    }
+
+    public long probe(long key) {
+        int base = bucketOffset(key);
+        for (int i = 0; i < ENTRIES_PER_BUCKET; i++) {
+            int slot = base + i * LONGS_PER_ENTRY;
+            long data = table[slot + 1];
+            if ((table[slot] ^ data) == key && data != MISS) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int base = bucketOffset(key);
+        int currentAge = age;
+        int replaceSlot = base;
+        int replaceWorth = Integer.MAX_VALUE;
+
+        for (int i = 0; i < ENTRIES_PER_BUCKET; i++) {
+            int slot = base + i * LONGS_PER_ENTRY;
+            long data = table[slot + 1];
+            if (data == MISS) {
+                replaceSlot = slot;
+                break;
+            }
+            if ((table[slot] ^ data) == key) {
+                // keep a deeper result for the same position unless the new one is exact
+                if (bound != BOUND_EXACT && depth < depth(data) - 2 && age(data) == currentAge) {
+                    return;
+                }
+                if (move == 0) {
+                    move = move(data);
+                }
+                replaceSlot = slot;
+                break;
+            }
+            int worth = depth(data) - 8 * ((currentAge - age(data)) & AGE_MASK);
+            if (worth < replaceWorth) {
+                replaceWorth = worth;
+                replaceSlot = slot;
+            }
+        }
+
+        long data = pack(move, score, depth, bound, currentAge);
+        table[replaceSlot] = key ^ data;
+        table[replaceSlot + 1] = data;
+    }
+
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+        age = 0;
+    }
+
+    // permille of sampled entries written during the current search
+    public int hashfull() {
+        int sampled = Math.min(1000, table.length / LONGS_PER_ENTRY);
+        int used = 0;
+        int currentAge = age;
+        for (int i = 0; i < sampled; i++) {
+            long data = table[i * LONGS_PER_ENTRY + 1];
+            if (data != MISS && age(data) == currentAge) {
+                used++;
+            }
+        }
+        return sampled == 0 ? 0 : used * 1000 / sampled;
+    }
+
+    public int capacity() {
+        return table.length / LONGS_PER_ENTRY;
+    }
+
+    public static int move(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int score(long data) {
+        return (short) (data >>> 16);
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> 32) & 0xFF);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> 40) & 0x3);
+    }
+
+    private static int age(long data) {
+        return (int) ((data >>> 42) & AGE_MASK);
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int age) {
+        return (move & 0xFFFFL)
+                | ((score & 0xFFFFL) << 16)
+                | ((long) Math.max(0, Math.min(depth, 0xFF)) << 32)
+                | ((long) (bound & 0x3) << 40)
+                | ((long) (age & AGE_MASK) << 42);
+    }
+
+    private int bucketOffset(long key) {
+        return ((int) key & bucketMask) * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY;
+    }
+}
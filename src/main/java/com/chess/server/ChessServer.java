@@ -4,20 +4,35 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import com.chess.board.Board;
+import com.chess.board.Fen;
+import com.chess.board.GameOutcome;
+import com.chess.clock.ChessClock;
 import com.chess.common.File;
 import com.chess.common.Location;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
 import com.chess.move.MoveRecord;
 import com.chess.piece.AbstractPiece;
 import com.chess.piece.PieceColor;
+import com.chess.search.Search;
+import com.chess.search.SearchLimits;
+import com.chess.search.SearchResult;
+import com.chess.search.TranspositionTable;
 import com.chess.squares.Square;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,13 +44,35 @@ import com.sun.net.httpserver.HttpServer;
 
 public class ChessServer {
 
-    private final Board board;
-    private PieceColor currentTurn;
+    private static final int MAX_SEARCH_DEPTH = 64;
+    private static final long DEFAULT_SEARCH_TIME_MS = 1000;
+    private static final long MAX_SEARCH_TIME_MS = 30_000;
+    private static final int SEARCH_TABLE_MB = 64;
+    private static final int SEARCH_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private Board board;
+    private final Deque<MoveRecord> history;
     private final ObjectMapper objectMapper;
+    private final TranspositionTable searchTable;
+    private final ExecutorService searchExecutor;
+    // one search at a time; a second request is turned away instead of queueing behind the first
+    private final Semaphore searchSlot;
+    private volatile Search runningSearch;
+    // set when a game ends; the table is cleared once the slot is next taken, when no search can still write to it
+    private volatile boolean searchTableStale;
+    private ChessClock clock;
+    private GameOutcome outcome = GameOutcome.ONGOING;
 
     public ChessServer() {
         this.board = new Board();
-        this.currentTurn = PieceColor.LIGHT;
+        this.history = new ArrayDeque<>();
+        this.searchTable = new TranspositionTable(SEARCH_TABLE_MB);
+        this.searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.searchSlot = new Semaphore(1);
         this.objectMapper = new ObjectMapper();
         this.objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
     }
@@ -44,6 +81,11 @@ public class ChessServer {
         HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
         httpServer.createContext("/api/state", new StateHandler());
         httpServer.createContext("/api/move", new MoveHandler());
+        httpServer.createContext("/api/takeback", new TakebackHandler());
+        httpServer.createContext("/api/bestmove", new BestMoveHandler());
+        httpServer.createContext("/api/stop", new StopHandler());
+        httpServer.createContext("/api/clock", new ClockHandler());
+        httpServer.createContext("/api/position", new PositionHandler());
         httpServer.createContext("/", new StaticFileHandler(Path.of("ui")));
         httpServer.setExecutor(null);
         httpServer.start();
@@ -115,35 +157,85 @@ public class ChessServer {
                 return;
             }
 
+            if (outcome.isOver()) {
+                sendJson(exchange, 400, errorPayload("Oyun bitti"));
+                return;
+            }
+
+            PieceColor currentTurn = board.getSideToMove();
             AbstractPiece piece = fromSquare.getCurrentPiece();
             if (piece.getPieceColor() != currentTurn) {
                 sendJson(exchange, 400, errorPayload(String.format("Sıra %s taşlarında", currentTurn)));
                 return;
             }
 
-            if (!piece.getValidMoves(board).contains(toLocation)) {
-                sendJson(exchange, 400, errorPayload("Hamle bu taş için geçerli değil"));
+            int move = MoveGenerator.findLegalMove(board, currentTurn, fromLocation.getIndex(), toLocation.getIndex());
+            if (move == Move.NONE) {
+                String message = piece.getValidMoves(board).contains(toLocation)
+                        ? "Bu hamle şahı tehdit altında bırakıyor"
+                        : "Hamle bu taş için geçerli değil";
+                sendJson(exchange, 400, errorPayload(message));
                 return;
             }
 
-            MoveRecord record;
-            try {
-                record = piece.makeMove(board, toSquare);
-            } catch (IllegalStateException ex) {
-                sendJson(exchange, 400, errorPayload(ex.getMessage()));
+            MoveRecord record = board.make(move);
+            history.push(record);
+            if (clock != null) {
+                clock.press();
+            }
+            outcome = GameOutcome.of(board);
+            if (outcome.isOver()) {
+                finishGame();
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "ok");
+            // Map.of rejects the null promotion of an ordinary move
+            Map<String, Object> moveInfo = new HashMap<>();
+            moveInfo.put("from", fromNotation.toLowerCase(Locale.ROOT));
+            moveInfo.put("to", toNotation.toLowerCase(Locale.ROOT));
+            moveInfo.put("castling", record.isCastling());
+            moveInfo.put("enPassant", record.isEnPassantCapture());
+            moveInfo.put("promotion", record.getPromotionPiece() != null ? record.getPromotionPiece().getName() : null);
+            response.put("move", moveInfo);
+            response.put("state", buildStatePayload());
+
+            sendJson(exchange, 200, response);
+        }
+    }
+
+    private class TakebackHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if ("OPTIONS".equalsIgnoreCase(exchange.getRequestMethod())) {
+                Headers headers = exchange.getResponseHeaders();
+                addCors(headers);
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
                 return;
             }
-            board.setLastMove(record);
-            currentTurn = (currentTurn == PieceColor.LIGHT) ? PieceColor.DARK : PieceColor.LIGHT;
+
+            if (history.isEmpty()) {
+                sendJson(exchange, 400, errorPayload("Geri alınacak hamle yok"));
+                return;
+            }
+
+            MoveRecord record = history.pop();
+            board.unmake(record);
+            outcome = GameOutcome.of(board);
+            // the side to move has changed back, so its clock runs again
+            if (clock != null && !outcome.isOver()) {
+                clock.switchTo(board.getSideToMove());
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("status", "ok");
-            response.put("move", Map.of(
-                    "from", fromNotation.toLowerCase(Locale.ROOT),
-                    "to", toNotation.toLowerCase(Locale.ROOT),
-                    "castling", record.isCastling(),
-                    "enPassant", record.isEnPassantCapture(),
-                    "promotion", record.getPromotionPiece() != null ? record.getPromotionPiece().getName() : null
+            response.put("takeback", Map.of(
+                    "from", formatNotation(record.getFrom()),
+                    "to", formatNotation(record.getTo())
             ));
             response.put("state", buildStatePayload());
 
@@ -151,9 +243,240 @@ public class ChessServer {
         }
     }
 
-    private Map<String, Object> buildStatePayload() {
+    private class BestMoveHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if ("OPTIONS".equalsIgnoreCase(exchange.getRequestMethod())) {
+                Headers headers = exchange.getResponseHeaders();
+                addCors(headers);
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            int depth;
+            long timeMs;
+            int threads;
+            try {
+                depth = Integer.parseInt(query.getOrDefault("depth", String.valueOf(MAX_SEARCH_DEPTH)));
+                timeMs = Long.parseLong(query.getOrDefault("timeMs", String.valueOf(DEFAULT_SEARCH_TIME_MS)));
+                threads = Integer.parseInt(query.getOrDefault("threads", String.valueOf(SEARCH_THREADS)));
+            } catch (NumberFormatException e) {
+                sendJson(exchange, 400, errorPayload("Geçersiz arama parametresi"));
+                return;
+            }
+            if (depth < 1 || timeMs < 1 || threads < 1) {
+                sendJson(exchange, 400, errorPayload("Derinlik, süre ve iş parçacığı sayısı pozitif olmalı"));
+                return;
+            }
+
+            if (outcome.isOver()) {
+                sendJson(exchange, 400, errorPayload("Oyun bitti"));
+                return;
+            }
+
+            if (!searchSlot.tryAcquire()) {
+                sendJson(exchange, 503, errorPayload("Başka bir arama sürüyor"));
+                return;
+            }
+            if (searchTableStale) {
+                searchTableStale = false;
+                searchTable.clear();
+            }
+
+            // an attached clock decides the budget unless the request names one
+            int searchDepth = Math.min(depth, MAX_SEARCH_DEPTH);
+            SearchLimits limits = clock != null && !query.containsKey("timeMs")
+                    ? SearchLimits.forClock(searchDepth, clock.getRemainingMillis(board.getSideToMove()), clock.getIncrementMillis())
+                    : SearchLimits.of(searchDepth, Math.min(timeMs, MAX_SEARCH_TIME_MS));
+            // the search works on its own copy so the HTTP thread can keep serving moves
+            Board position = board.copy();
+            Search search = new Search(searchTable, Math.min(threads, SEARCH_THREADS));
+            runningSearch = search;
+            searchExecutor.execute(() -> respondWithBestMove(exchange, position, search, limits));
+        }
+    }
+
+    private class StopHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if ("OPTIONS".equalsIgnoreCase(exchange.getRequestMethod())) {
+                Headers headers = exchange.getResponseHeaders();
+                addCors(headers);
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            Search search = runningSearch;
+            if (search != null) {
+                search.cancel();
+            }
+            sendJson(exchange, 200, Map.of("status", "ok", "stopped", search != null));
+        }
+    }
+
+    private class PositionHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if ("OPTIONS".equalsIgnoreCase(exchange.getRequestMethod())) {
+                Headers headers = exchange.getResponseHeaders();
+                addCors(headers);
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            String body = readBody(exchange.getRequestBody());
+            Board position;
+            try {
+                Map<String, String> payload = objectMapper.readValue(body, objectMapper.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+                position = Fen.parse(Optional.ofNullable(payload.get("fen")).map(String::trim).orElse(Fen.INITIAL));
+            } catch (JsonProcessingException e) {
+                sendJson(exchange, 400, errorPayload("Geçersiz JSON"));
+                return;
+            } catch (IllegalArgumentException e) {
+                sendJson(exchange, 400, errorPayload("Geçersiz FEN"));
+                return;
+            }
+
+            // a running search holds a copy of the old position, so its answer no longer applies
+            Search search = runningSearch;
+            if (search != null) {
+                search.cancel();
+            }
+            board = position;
+            history.clear();
+            outcome = GameOutcome.of(board);
+            if (clock != null) {
+                clock.stop();
+                if (!outcome.isOver()) {
+                    clock.start(board.getSideToMove());
+                }
+            }
+            sendJson(exchange, 200, Map.of("status", "ok", "state", buildStatePayload()));
+        }
+    }
+
+    private class ClockHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if ("OPTIONS".equalsIgnoreCase(exchange.getRequestMethod())) {
+                Headers headers = exchange.getResponseHeaders();
+                addCors(headers);
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            String body = readBody(exchange.getRequestBody());
+            long baseMs;
+            long incrementMs;
+            try {
+                Map<String, String> payload = objectMapper.readValue(body, objectMapper.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+                baseMs = Long.parseLong(Optional.ofNullable(payload.get("baseMs")).orElse("0").trim());
+                incrementMs = Long.parseLong(Optional.ofNullable(payload.get("incrementMs")).orElse("0").trim());
+            } catch (JsonProcessingException | NumberFormatException e) {
+                sendJson(exchange, 400, errorPayload("Geçersiz saat ayarı"));
+                return;
+            }
+            if (baseMs <= 0 || incrementMs < 0) {
+                sendJson(exchange, 400, errorPayload("Süre pozitif, artış negatif olmayan bir sayı olmalı"));
+                return;
+            }
+
+            clock = new ChessClock(baseMs, incrementMs);
+            if (!outcome.isOver()) {
+                clock.start(board.getSideToMove());
+            }
+            sendJson(exchange, 200, Map.of("status", "ok", "state", buildStatePayload()));
+        }
+    }
+
+    // nothing is left to think about once the game is decided, so stop the clock and any search and mark the hash for clearing
+    private void finishGame() {
+        if (clock != null) {
+            clock.stop();
+        }
+        Search search = runningSearch;
+        if (search != null) {
+            search.cancel();
+        }
+        searchTableStale = true;
+    }
+
+    private void respondWithBestMove(HttpExchange exchange, Board position, Search search, SearchLimits limits) {
+        try {
+            SearchResult result = search.search(position, limits);
+            if (result.getBestMove() == Move.NONE) {
+                sendJson(exchange, 400, Map.of("status", "error", "message", "Oynanabilir hamle yok"));
+                return;
+            }
+
+            int bestMove = result.getBestMove();
+            Map<String, Object> move = new HashMap<>();
+            move.put("from", formatNotation(Location.of(Move.from(bestMove))));
+            move.put("to", formatNotation(Location.of(Move.to(bestMove))));
+            move.put("promotion", Move.isPromotion(bestMove) ? Move.promotionType(bestMove).name() : null);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "ok");
+            response.put("bestMove", move);
+            response.put("score", result.getScore());
+            response.put("depth", result.getDepth());
+            response.put("nodes", result.getNodes());
+            response.put("hashfull", result.getHashfull());
+            response.put("threads", search.getThreads());
+            response.put("timeMs", result.getElapsedMillis());
+            response.put("pv", result.getPrincipalVariationNotation());
+            sendJson(exchange, 200, response);
+        } catch (IOException e) {
+            exchange.close();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            try {
+                sendJson(exchange, 500, Map.of("status", "error", "message", "Arama sırasında hata oluştu"));
+            } catch (IOException sendFailure) {
+                exchange.close();
+            }
+        } finally {
+            runningSearch = null;
+            searchSlot.release();
+        }
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    Map<String, Object> buildStatePayload() {
         Map<String, Object> state = new HashMap<>();
-        state.put("currentTurn", currentTurn.name());
+        state.put("currentTurn", board.getSideToMove().name());
+        state.put("fen", Fen.write(board));
         Map<String, Map<String, Object>> pieces = new HashMap<>();
         board.getLocationSquareMap().forEach((location, square) -> {
             if (square.isOccupied()) {
@@ -165,6 +488,21 @@ public class ChessServer {
             }
         });
         state.put("pieces", pieces);
+        state.put("halfmoveClock", board.getHalfmoveClock());
+        state.put("fullmoveNumber", board.getFullmoveNumber());
+        state.put("threefoldRepetition", board.isThreefoldRepetition());
+        state.put("fiftyMoveRule", board.isFiftyMoveRule());
+        state.put("result", outcome.name());
+        if (outcome == GameOutcome.CHECKMATE) {
+            state.put("winner", board.getSideToMove().opposite().name());
+        }
+        if (clock != null) {
+            state.put("clock", Map.of(
+                    PieceColor.LIGHT.name(), clock.getRemainingMillis(PieceColor.LIGHT),
+                    PieceColor.DARK.name(), clock.getRemainingMillis(PieceColor.DARK),
+                    "incrementMs", clock.getIncrementMillis()
+            ));
+        }
         return state;
     }
 
@@ -209,7 +547,7 @@ public class ChessServer {
     private Location parseNotation(String notation) {
         File file = File.valueOf(String.valueOf(Character.toUpperCase(notation.charAt(0))));
         int rank = Character.getNumericValue(notation.charAt(1));
-        return new Location(file, rank);
+        return Location.of(file, rank);
     }
 
     private String formatNotation(Location location) {
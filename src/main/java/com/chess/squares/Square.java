@@ -1,5 +1,6 @@
 package com.chess.squares;
 
+import com.chess.board.Board;
 import com.chess.common.Location;
 import com.chess.piece.AbstractPiece;
 
@@ -9,7 +10,7 @@ public class Square {
     private boolean isOccupied;
 
     private AbstractPiece currentPiece;
-
+    private Board board;
 
     public Square(SquareColor squareColor, Location location) {
         this.squareColor = squareColor;
@@ -19,7 +20,7 @@ public class Square {
 
     public void reset() {
         this.isOccupied = false;
-        this.currentPiece = null;
+        setCurrentPiece(null);
     }
 
     public AbstractPiece getCurrentPiece() {
@@ -27,7 +28,15 @@ public class Square {
     }
 
     public void setCurrentPiece(AbstractPiece currentPiece) {
+        AbstractPiece previousPiece = this.currentPiece;
         this.currentPiece = currentPiece;
+        if (board != null && previousPiece != currentPiece) {
+            board.onPieceChanged(this, previousPiece, currentPiece);
+        }
+    }
+
+    public void setBoard(Board board) {
+        this.board = board;
     }
 
     public SquareColor getSquareColor() {
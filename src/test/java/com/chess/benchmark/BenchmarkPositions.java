@@ -0,0 +1,40 @@
+package com.chess.benchmark;
+
+import com.chess.board.Board;
+
+import static com.chess.board.BoardFixtures.play;
+
+public final class BenchmarkPositions {
+    // Italian game after 10 moves: all piece types developed, open lines for the sliders
+    private static final String[] MIDDLEGAME_LINE = {
+            "e2e4", "e7e5", "g1f3", "b8c6", "f1c4", "f8c5", "c2c3", "g8f6", "d2d3", "d7d6",
+            "e1g1", "e8g8", "b1d2", "a7a6", "a2a4", "c8e6", "c4e6", "f7e6", "d1b3", "d8d7"
+    };
+
+    private BenchmarkPositions() {
+    }
+
+    public static Board initial() {
+        return new Board();
+    }
+
+    public static Board middlegame() {
+        Board board = new Board();
+        for (String notation : MIDDLEGAME_LINE) {
+            play(board, notation);
+        }
+        return board;
+    }
+
+    public static Board byName(String name) {
+        switch (name) {
+            case "initial":
+                return initial();
+            case "middlegame":
+                return middlegame();
+            default:
+                throw new IllegalArgumentException("Unknown benchmark position: " + name);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.chess.benchmark;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({"initial", "middlegame"})
+    public String position;
+
+    private Board board;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private int moveCount;
+    private String fen;
+    private final Board scratch = new Board();
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.byName(position);
+        moveCount = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+        fen = Fen.write(board);
+    }
+
+    @Benchmark
+    public Board newBoard() {
+        return new Board();
+    }
+
+    @Benchmark
+    public Board resetBoard() {
+        scratch.reset();
+        return scratch;
+    }
+
+    @Benchmark
+    public Board parseFen() {
+        return Fen.parse(fen);
+    }
+
+    @Benchmark
+    public String writeFen() {
+        return Fen.write(board);
+    }
+
+    @Benchmark
+    public int legalMoves() {
+        return MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+    }
+
+    @Benchmark
+    public long makeUnmakeAll() {
+        long keys = 0;
+        for (int i = 0; i < moveCount; i++) {
+            MoveRecord record = board.make(moves[i]);
+            keys ^= board.getZobristKey();
+            board.unmake(record);
+        }
+        return keys;
+    }
+}
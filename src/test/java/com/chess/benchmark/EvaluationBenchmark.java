@@ -0,0 +1,102 @@
+package com.chess.benchmark;
+
+import com.chess.board.Board;
+import com.chess.board.PieceSquareTables;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import com.chess.piece.AbstractPiece;
+import com.chess.search.Evaluation;
+import com.chess.search.PawnTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// the incremental read against summing the tables over the piece lists, once per node;
+// the pawn-table variants show what a cached pawn structure saves over recomputing it
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationBenchmark {
+
+    @Param({"initial", "middlegame"})
+    public String position;
+
+    private Board board;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private int moveCount;
+    private final PawnTable pawnTable = new PawnTable(1 << 14);
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.byName(position);
+        moveCount = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+    }
+
+    @Benchmark
+    public int incremental() {
+        return Evaluation.evaluate(board);
+    }
+
+    @Benchmark
+    public int withPawnTable() {
+        return Evaluation.evaluate(board, pawnTable);
+    }
+
+    @Benchmark
+    public int fromScratch() {
+        List<AbstractPiece> pieces = new ArrayList<>(board.getLightPieces());
+        pieces.addAll(board.getDarkPieces());
+        int middlegame = 0;
+        int endgame = 0;
+        int phase = 0;
+        for (AbstractPiece piece : pieces) {
+            if (piece.getCurrentSquare() == null) {
+                continue;
+            }
+            int square = piece.getCurrentSquare().getLocation().getIndex();
+            middlegame += PieceSquareTables.middlegame(piece.getPieceColor(), piece.getPieceType(), square);
+            endgame += PieceSquareTables.endgame(piece.getPieceColor(), piece.getPieceType(), square);
+            phase += PieceSquareTables.phase(piece.getPieceType());
+        }
+        phase = Math.min(phase, PieceSquareTables.MAX_PHASE);
+        return (middlegame * phase + endgame * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+    }
+
+    // make/unmake already keeps the totals, so this measures the cost the hook adds per move
+    @Benchmark
+    public int makeEvaluateUnmakeAll() {
+        int sum = 0;
+        for (int i = 0; i < moveCount; i++) {
+            MoveRecord record = board.make(moves[i]);
+            sum += Evaluation.evaluate(board);
+            board.unmake(record);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int makeEvaluateUnmakeAllWithPawnTable() {
+        int sum = 0;
+        for (int i = 0; i < moveCount; i++) {
+            MoveRecord record = board.make(moves[i]);
+            sum += Evaluation.evaluate(board, pawnTable);
+            board.unmake(record);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+package com.chess.benchmark;
+
+import com.chess.board.Board;
+import com.chess.common.Location;
+import com.chess.move.MoveGenerator;
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark {
+
+    @Param({"initial", "middlegame"})
+    public String position;
+
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    public PieceType pieceType;
+
+    private Board board;
+    private AbstractPiece[] pieces;
+    private int[] squares;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.byName(position);
+        List<AbstractPiece> selected = new ArrayList<>();
+        for (AbstractPiece piece : board.getLightPieces()) {
+            if (piece.getCurrentSquare() != null && piece.getPieceType() == pieceType) {
+                selected.add(piece);
+            }
+        }
+        pieces = selected.toArray(new AbstractPiece[0]);
+        squares = new int[pieces.length];
+        for (int i = 0; i < pieces.length; i++) {
+            squares[i] = pieces[i].getCurrentSquare().getLocation().getIndex();
+        }
+    }
+
+    @Benchmark
+    public void validMoves(Blackhole blackhole) {
+        for (AbstractPiece piece : pieces) {
+            List<Location> locations = piece.getValidMoves(board);
+            blackhole.consume(locations);
+        }
+    }
+
+    @Benchmark
+    public int generateMoves() {
+        int count = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            count = pieces[i].generateMoves(board, squares[i], moves, count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,45 @@
+package com.chess.benchmark;
+
+import com.chess.board.Board;
+import com.chess.perft.Perft;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerftBenchmark {
+
+    @Param({"initial", "middlegame"})
+    public String position;
+
+    @Param({"3", "4"})
+    public int depth;
+
+    private Board board;
+    private final Perft perft = new Perft();
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.byName(position);
+    }
+
+    @Benchmark
+    public long perft() {
+        return perft.count(board, depth);
+    }
+}
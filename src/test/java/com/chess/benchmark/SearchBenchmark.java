@@ -0,0 +1,85 @@
+package com.chess.benchmark;
+
+import com.chess.board.Board;
+import com.chess.search.Search;
+import com.chess.search.SearchOptions;
+import com.chess.search.SearchResult;
+import com.chess.search.TranspositionTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// time-to-depth per thread count and pruning switch, one cold search per iteration; the nodes counter gives the nodes searched.
+// The defaults are a small grid; sweep the rest from the command line, e.g.
+// -p position=initial,middlegame -p depth=5,6 -p threads=1,2,4,8 -p pruning=all,none,nullMove,lmr,aspiration
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({"middlegame"})
+    public String position;
+
+    @Param({"6"})
+    public int depth;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    @Param({"all", "none"})
+    public String pruning;
+
+    private Board board;
+    private TranspositionTable table;
+    private Search search;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long nodes;
+    }
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.byName(position);
+        table = new TranspositionTable(64);
+        search = new Search(table, threads, options(pruning));
+    }
+
+    // a single shot per iteration, so every measured search starts from an empty table
+    @Setup(Level.Iteration)
+    public void clearTable() {
+        table.clear();
+    }
+
+    private static SearchOptions options(String pruning) {
+        boolean all = pruning.equals("all");
+        return SearchOptions.builder()
+                .nullMovePruning(all || pruning.equals("nullMove"))
+                .lateMoveReductions(all || pruning.equals("lmr"))
+                .aspirationWindows(all || pruning.equals("aspiration"))
+                .build();
+    }
+
+    @Benchmark
+    public int searchToDepth(Counters counters) {
+        SearchResult result = search.search(board, depth, Long.MAX_VALUE / 2);
+        counters.nodes += result.getNodes();
+        return result.getBestMove();
+    }
+}
@@ -0,0 +1,106 @@
+package com.chess.board;
+
+import com.chess.common.File;
+import com.chess.common.Location;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+import com.chess.squares.Square;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitboardTest {
+
+    @DisplayName("Başlangıç dizilimi bitboard'lara doğru yansır")
+    @Test
+    void initialPositionIsMirroredInBitboards() {
+        Board board = new Board();
+
+        assertEquals(0x000000000000FF00L, board.getPieces(PieceColor.LIGHT, PieceType.PAWN));
+        assertEquals(0x00FF000000000000L, board.getPieces(PieceColor.DARK, PieceType.PAWN));
+        assertEquals(0x0000000000000010L, board.getPieces(PieceColor.LIGHT, PieceType.KING));
+        assertEquals(0x0800000000000000L, board.getPieces(PieceColor.DARK, PieceType.QUEEN));
+        assertEquals(0x000000000000FFFFL, board.getOccupancy(PieceColor.LIGHT));
+        assertEquals(0xFFFF00000000FFFFL, board.getOccupancy());
+    }
+
+    @DisplayName("Hamle ve taş alma bitboard'ları güncel tutar")
+    @Test
+    void movesAndCapturesKeepBitboardsInSync() {
+        Board board = new Board();
+        Square e2 = board.getSquare(Location.of(File.E, 2));
+        Square e4 = board.getSquare(Location.of(File.E, 4));
+        MoveRecord record = e2.getCurrentPiece().makeMove(board, e4);
+        board.setLastMove(record);
+
+        long lightPawns = board.getPieces(PieceColor.LIGHT, PieceType.PAWN);
+        assertFalse(Bitboards.contains(lightPawns, Bitboards.squareIndex(Location.of(File.E, 2))));
+        assertTrue(Bitboards.contains(lightPawns, Bitboards.squareIndex(Location.of(File.E, 4))));
+
+        Square d8 = board.getSquare(Location.of(File.D, 8));
+        AbstractPiece queen = d8.getCurrentPiece();
+        Square d2 = board.getSquare(Location.of(File.D, 2));
+        d2.getCurrentPiece().setCurrentSquare(null);
+        d2.reset();
+        d8.reset();
+        d2.setCurrentPiece(queen);
+        d2.setOccupied(true);
+
+        assertEquals(Bitboards.bit(Bitboards.squareIndex(Location.of(File.D, 2))),
+                board.getPieces(PieceColor.DARK, PieceType.QUEEN));
+        assertEquals(0x000000000000E700L, board.getPieces(PieceColor.LIGHT, PieceType.PAWN) & 0xFF00L);
+    }
+
+    @DisplayName("Bitboard'lardan kurulan tahta aynı bitboard'ları üretir")
+    @Test
+    void conversionRoundTripsWithoutLoss() {
+        Board board = new Board();
+        long[][] bitboards = board.toBitboards();
+
+        Board rebuilt = Board.fromBitboards(bitboards);
+
+        assertArrayEquals(bitboards, rebuilt.toBitboards());
+        for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+            AbstractPiece original = board.getSquare(square).getCurrentPiece();
+            AbstractPiece copy = rebuilt.getSquare(square).getCurrentPiece();
+            if (original == null) {
+                assertNull(copy);
+            } else {
+                assertEquals(original.getPieceType(), copy.getPieceType());
+                assertEquals(original.getPieceColor(), copy.getPieceColor());
+            }
+        }
+        assertEquals(16, rebuilt.getLightPieces().size());
+    }
+
+    @DisplayName("Saldırı haritası her kare için saldıran taşlarla tutarlıdır ve taş değişince yenilenir")
+    @Test
+    void attackMapsAgreeWithAttackersOfEverySquare() {
+        Board board = new Board();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        Random random = new Random(3);
+
+        for (int ply = 0; ply < 60; ply++) {
+            for (PieceColor color : PieceColor.values()) {
+                long expected = Bitboards.EMPTY;
+                for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+                    if (board.attackersOf(square, color) != 0) {
+                        expected |= Bitboards.bit(square);
+                    }
+                }
+                assertEquals(expected, board.getAttacks(color));
+            }
+            int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+            if (count == 0) {
+                break;
+            }
+            board.make(moves[random.nextInt(count)]);
+        }
+    }
+}
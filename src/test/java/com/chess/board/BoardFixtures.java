@@ -0,0 +1,36 @@
+package com.chess.board;
+
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public final class BoardFixtures {
+
+    private BoardFixtures() {
+    }
+
+    public static int square(String notation) {
+        return Bitboards.squareIndex(notation.charAt(0) - 'a', notation.charAt(1) - '1');
+    }
+
+    // promotions resolve to a queen
+    public static int move(Board board, String notation) {
+        int move = MoveGenerator.findLegalMove(board, board.getSideToMove(), square(notation.substring(0, 2)),
+                square(notation.substring(2, 4)));
+        assertNotEquals(Move.NONE, move, notation);
+        return move;
+    }
+
+    public static MoveRecord play(Board board, String notation) {
+        return board.make(move(board, notation));
+    }
+
+    public static void play(Board board, String first, String... rest) {
+        play(board, first);
+        for (String notation : rest) {
+            play(board, notation);
+        }
+    }
+}
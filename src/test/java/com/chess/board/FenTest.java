@@ -0,0 +1,121 @@
+package com.chess.board;
+
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenTest {
+
+    @DisplayName("Başlangıç FEN'i yeni tahtayla aynı pozisyonu verir")
+    @Test
+    void initialFenMatchesNewBoard() {
+        Board parsed = Fen.parse(Fen.INITIAL);
+        Board board = new Board();
+
+        assertArrayEquals(board.toBitboards(), parsed.toBitboards());
+        assertEquals(board.getZobristKey(), parsed.getZobristKey());
+        assertEquals(CastlingRights.ALL, parsed.getCastlingRights());
+        assertEquals(Fen.INITIAL, Fen.write(board));
+    }
+
+    @DisplayName("Rastgele oyunlardaki her pozisyon FEN üzerinden aynen geri okunur")
+    @Test
+    void randomPositionsRoundTrip() {
+        Random random = new Random(3);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 30; game++) {
+            Board board = new Board();
+            for (int ply = 0; ply < 100; ply++) {
+                String fen = Fen.write(board);
+                Board parsed = Fen.parse(fen);
+                assertEquals(fen, Fen.write(parsed));
+                assertEquals(board.getZobristKey(), parsed.getZobristKey(), fen);
+                assertEquals(parsed.computeZobristKey(), parsed.getZobristKey(), fen);
+
+                int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+                if (count == 0) {
+                    break;
+                }
+                board.make(moves[random.nextInt(count)]);
+            }
+        }
+    }
+
+    @DisplayName("Konum alanları, en passant ve saatler okunur")
+    @Test
+    void stateFieldsAreRead() {
+        Board board = Fen.parse("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w Kq f6 0 3");
+
+        assertEquals(PieceColor.LIGHT, board.getSideToMove());
+        assertEquals(CastlingRights.LIGHT_KING_SIDE | CastlingRights.DARK_QUEEN_SIDE, board.getCastlingRights());
+        assertEquals(Bitboards.squareIndex(5, 5), board.getEnPassantSquare());
+        assertEquals(3, board.getFullmoveNumber());
+        assertEquals(PieceType.PAWN, board.getSquare(Bitboards.squareIndex(4, 4)).getCurrentPiece().getPieceType());
+
+        int move = MoveGenerator.findLegalMove(board, PieceColor.LIGHT, Bitboards.squareIndex(4, 4), Bitboards.squareIndex(5, 5));
+        assertTrue(Move.isEnPassant(move));
+    }
+
+    @DisplayName("Alınamayacak en passant karesi ve saatsiz FEN kabul edilir")
+    @Test
+    void lenientInputIsNormalised() {
+        Board board = Fen.parse("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3");
+
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+        assertEquals(0, board.getHalfmoveClock());
+        assertEquals(1, board.getFullmoveNumber());
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1", Fen.write(board));
+    }
+
+    @DisplayName("Bozuk FEN açıklayıcı bir hatayla reddedilir")
+    @Test
+    void malformedFenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNX w KQkq - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("8/8/8/8/8/8/8/K7 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse(""));
+    }
+
+    @DisplayName("Sırası gelmeyen tarafın şahı tehdit altındaysa FEN reddedilir")
+    @Test
+    void sideNotToMoveInCheckIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("4k3/8/8/8/8/8/8/4RK2 w - - 0 1"));
+        assertDoesNotThrow(() -> Fen.parse("4k3/8/8/8/8/8/8/4RK2 b - - 0 1"));
+    }
+
+    @DisplayName("Birinci veya sekizinci sıradaki piyon reddedilir")
+    @Test
+    void pawnsOnBackRanksAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("4k3/8/8/8/8/8/8/P3K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("p3k3/8/8/8/8/8/8/4K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Fen.parse("4k2P/8/8/8/8/8/8/4K3 b - - 0 1"));
+    }
+
+    @DisplayName("En passant karesi hamle sırasına uymazsa veya çift adım atan piyon yoksa reddedilir")
+    @Test
+    void inconsistentEnPassantSquareIsRejected() {
+        // the same square is fine for black to move but not for white
+        assertThrows(IllegalArgumentException.class,
+                () -> Fen.parse("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e3 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Fen.parse("rnbqkbnr/ppp1pppp/8/3p4/8/8/PPPPPPPP/RNBQKBNR b KQkq d6 0 2"));
+        // right rank, but no pawn stands in front of the square
+        assertThrows(IllegalArgumentException.class,
+                () -> Fen.parse("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq d3 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Fen.parse("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w Kq c6 0 3"));
+        // the pawn is there but the square it skipped is occupied
+        assertThrows(IllegalArgumentException.class,
+                () -> Fen.parse("rnbqkbnr/pppppppp/8/8/4P3/4N3/PPPP1PPP/RNBQKB1R b KQkq e3 0 1"));
+    }
+}
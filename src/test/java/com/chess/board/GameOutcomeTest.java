@@ -0,0 +1,66 @@
+package com.chess.board;
+
+import com.chess.move.MoveGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.chess.board.BoardFixtures.play;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameOutcomeTest {
+
+    @DisplayName("Çoban matından sonra oyun şah mat ile biter")
+    @Test
+    void foolsMateIsCheckmate() {
+        Board board = new Board();
+        play(board, "f2f3", "e7e5", "g2g4");
+        assertEquals(GameOutcome.ONGOING, GameOutcome.of(board));
+
+        play(board, "d8h4");
+        assertEquals(GameOutcome.CHECKMATE, GameOutcome.of(board));
+        assertFalse(GameOutcome.of(board).isDraw());
+    }
+
+    @DisplayName("Şah çekilmemişken hamlesi kalmayan taraf pat olur")
+    @Test
+    void noMovesWithoutCheckIsStalemate() {
+        Board board = Fen.parse("7k/5K2/6Q1/8/8/8/8/8 b - - 0 1");
+
+        assertEquals(GameOutcome.STALEMATE, GameOutcome.of(board));
+        assertTrue(GameOutcome.STALEMATE.isDraw());
+    }
+
+    @DisplayName("Mat gücü kalmayan taşlarla oyun berabere biter")
+    @Test
+    void insufficientMaterialIsDetected() {
+        assertTrue(Fen.parse("4k3/8/8/8/8/2N5/8/4K3 w - - 0 1").isInsufficientMaterial());
+        // bishops on the same colour, then on opposite colours
+        assertTrue(Fen.parse("4kB2/8/8/8/8/8/8/2B1K3 w - - 0 1").isInsufficientMaterial());
+        assertFalse(Fen.parse("4k3/8/8/8/8/8/8/2B1KB2 w - - 0 1").isInsufficientMaterial());
+        assertFalse(Fen.parse("4k3/8/8/8/8/2N2N2/8/4K3 w - - 0 1").isInsufficientMaterial());
+        assertFalse(Fen.parse("4k3/8/8/8/8/8/P7/4K3 w - - 0 1").isInsufficientMaterial());
+        assertEquals(GameOutcome.INSUFFICIENT_MATERIAL, GameOutcome.of(Fen.parse("4k3/8/8/8/3B4/8/8/4K3 w - - 0 1")));
+    }
+
+    @DisplayName("Erken çıkan hamle kontrolü tam üretimle aynı sonucu verir")
+    @Test
+    void hasLegalMoveAgreesWithFullGeneration() {
+        Random random = new Random(11);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 200; game++) {
+            Board board = new Board();
+            for (int ply = 0; ply < 200; ply++) {
+                int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+                assertEquals(count > 0, MoveGenerator.hasLegalMove(board, board.getSideToMove()));
+                if (count == 0) {
+                    break;
+                }
+                board.make(moves[random.nextInt(count)]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,279 @@
+package com.chess.board;
+
+import com.chess.common.File;
+import com.chess.common.Location;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+import com.chess.squares.Square;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import static com.chess.board.BoardFixtures.play;
+import static com.chess.board.BoardFixtures.square;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MakeUnmakeTest {
+
+    @DisplayName("Rastgele oyunlarda her hamle geri alındığında pozisyon birebir geri gelir")
+    @Test
+    void unmakeRestoresEveryPositionOfRandomGames() {
+        Random random = new Random(42);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 50; game++) {
+            Board board = new Board();
+            Deque<MoveRecord> records = new ArrayDeque<>();
+            Deque<String> snapshots = new ArrayDeque<>();
+
+            for (int ply = 0; ply < 120; ply++) {
+                int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+                if (count == 0) {
+                    break;
+                }
+                snapshots.push(snapshot(board));
+                records.push(board.make(moves[random.nextInt(count)]));
+            }
+
+            while (!records.isEmpty()) {
+                board.unmake(records.pop());
+                assertEquals(snapshots.pop(), snapshot(board));
+            }
+        }
+    }
+
+    @DisplayName("Rok, en passant ve terfi geri alınabilir")
+    @Test
+    void specialMovesAreReversible() {
+        Board board = new Board();
+        List<MoveRecord> records = new ArrayList<>();
+        String initial = snapshot(board);
+
+        for (String notation : new String[]{"g1f3", "b7b5", "g2g3", "b5b4", "f1g2", "a7a5", "c2c4"}) {
+            records.add(play(board, notation));
+        }
+        MoveRecord enPassant = play(board, "b4c3");
+        assertTrue(enPassant.isEnPassantCapture());
+        assertNotNull(enPassant.getCapturedPiece());
+        records.add(enPassant);
+
+        MoveRecord castling = play(board, "e1g1");
+        assertTrue(castling.isCastling());
+        assertEquals(PieceType.ROOK, board.getSquare(Location.of(File.F, 1)).getCurrentPiece().getPieceType());
+        records.add(castling);
+
+        records.add(play(board, "c3d2"));
+        records.add(play(board, "f3e5"));
+        MoveRecord promotion = play(board, "d2c1");
+        assertEquals(PieceType.QUEEN, promotion.getPromotionPiece().getPieceType());
+        assertEquals(PieceType.QUEEN, board.getSquare(Location.of(File.C, 1)).getCurrentPiece().getPieceType());
+        records.add(promotion);
+
+        for (int i = records.size() - 1; i >= 0; i--) {
+            board.unmake(records.get(i));
+        }
+
+        assertEquals(initial, snapshot(board));
+        assertNull(board.getLastMove());
+        assertEquals(PieceColor.LIGHT, board.getSideToMove());
+    }
+
+    @DisplayName("Pas hamlesi sırayı değiştirir ve geri alınınca her şey eski haline döner")
+    @Test
+    void nullMoveIsReversible() {
+        Board board = new Board();
+        play(board, "g1f3", "d7d5", "f3g1", "d5d4", "e2e4");
+        assertEquals(square("e3"), board.getEnPassantSquare());
+        String before = snapshot(board);
+        long key = board.getZobristKey();
+
+        MoveRecord previous = board.makeNullMove();
+        assertEquals(PieceColor.LIGHT, board.getSideToMove());
+        assertNull(board.getLastMove());
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+        assertEquals(board.computeZobristKey(), board.getZobristKey());
+
+        board.unmakeNullMove(previous);
+        assertEquals(before, snapshot(board));
+        assertEquals(key, board.getZobristKey());
+    }
+
+    @DisplayName("Şah veya kale oynayınca ya da kale alınınca rok hakkı düşer")
+    @Test
+    void castlingRightsAreLostByKingAndRookMoves() {
+        Board board = new Board();
+        assertEquals(CastlingRights.ALL, board.getCastlingRights());
+
+        play(board, "g2g3", "b7b6", "f1h3", "c8b7", "h3d7");
+        assertEquals(CastlingRights.ALL, board.getCastlingRights());
+
+        play(board, "e8d7");
+        assertEquals(CastlingRights.LIGHT_KING_SIDE | CastlingRights.LIGHT_QUEEN_SIDE, board.getCastlingRights());
+
+        play(board, "h2h3", "b7h1");
+        assertEquals(CastlingRights.LIGHT_QUEEN_SIDE, board.getCastlingRights());
+        assertFalse(legalMoves(board).contains("e1g1"));
+    }
+
+    @DisplayName("En passant karesi yalnızca rakip piyon alabilecekken tutulur")
+    @Test
+    void enPassantSquareIsKeptOnlyWhenCapturable() {
+        Board board = new Board();
+        play(board, "e2e4");
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+
+        play(board, "d7d5", "e4e5", "f7f5");
+        assertEquals(square("f6"), board.getEnPassantSquare());
+        assertTrue(legalMoves(board).contains("e5f6"));
+
+        play(board, "g1f3");
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+        assertEquals(board.computeZobristKey(), board.getZobristKey());
+    }
+
+    @DisplayName("Yarım hamle sayacı alma ve piyon hamlesiyle sıfırlanır, tam hamle sayısı siyahtan sonra artar")
+    @Test
+    void moveClocksFollowTheGame() {
+        Board board = new Board();
+        play(board, "g1f3", "g8f6", "f3g1");
+        assertEquals(3, board.getHalfmoveClock());
+        assertEquals(2, board.getFullmoveNumber());
+
+        play(board, "e7e5");
+        assertEquals(0, board.getHalfmoveClock());
+        assertEquals(3, board.getFullmoveNumber());
+
+        play(board, "b1c3", "f6e4", "c3e4");
+        assertEquals(0, board.getHalfmoveClock());
+        assertEquals(4, board.getFullmoveNumber());
+    }
+
+    @DisplayName("Aynı pozisyon üçüncü kez gelince tekrar beraberliği görülür")
+    @Test
+    void threefoldRepetitionIsDetected() {
+        Board board = new Board();
+        play(board, "g1f3", "g8f6", "f3g1");
+        assertEquals(0, board.getRepetitionCount());
+
+        play(board, "f6g8");
+        assertEquals(1, board.getRepetitionCount());
+        assertTrue(board.isRepetition());
+        assertFalse(board.isThreefoldRepetition());
+        assertTrue(board.copy().isRepetition());
+
+        play(board, "g1f3", "g8f6", "f3g1", "f6g8");
+        assertTrue(board.isThreefoldRepetition());
+
+        MoveRecord pawnMove = play(board, "e2e4");
+        assertEquals(0, board.getRepetitionCount());
+        board.unmake(pawnMove);
+        assertTrue(board.isThreefoldRepetition());
+    }
+
+    @DisplayName("Kopya asıl tahtanın taşlarını paylaşmaz ve kendi hamlelerini geri alabilir")
+    @Test
+    void copyIsIndependentOfTheOriginal() {
+        Board board = new Board();
+        play(board, "e2e4", "d7d5", "e4d5");
+        String before = snapshot(board);
+
+        Board copy = board.copy();
+        assertNull(copy.getLastMove());
+        assertEquals(board.getZobristKey(), copy.getZobristKey());
+        assertEquals(board.getEnPassantSquare(), copy.getEnPassantSquare());
+
+        MoveRecord recapture = play(copy, "d8d5");
+        copy.unmake(recapture);
+        assertEquals(board.getZobristKey(), copy.getZobristKey());
+        assertEquals(before, snapshot(board));
+    }
+
+    @DisplayName("Elli hamle boyunca alma ve piyon hamlesi olmazsa beraberlik kuralı işler")
+    @Test
+    void fiftyMoveRuleIsDetected() {
+        Board board = new Board();
+        for (int ply = 0; ply < Board.FIFTY_MOVE_PLIES - 1; ply += 4) {
+            play(board, "g1f3", "g8f6", "f3g1", "f6g8");
+        }
+        assertEquals(Board.FIFTY_MOVE_PLIES, board.getHalfmoveClock());
+        assertTrue(board.isFiftyMoveRule());
+
+        board.unmake(board.getLastMove());
+        assertFalse(board.isFiftyMoveRule());
+    }
+
+    @DisplayName("Sıfırlanan tahta aynı kareleri kullanarak başlangıç pozisyonuna döner")
+    @Test
+    void resetRestoresTheStartingPosition() {
+        Board board = new Board();
+        Square e4 = board.getSquare(square("e4"));
+        play(board, "e2e4", "d7d5", "e4d5", "g8f6", "f1b5", "c7c6", "e1f1");
+
+        board.reset();
+        Board fresh = new Board();
+
+        assertEquals(Fen.write(fresh), Fen.write(board));
+        assertArrayEquals(fresh.toBitboards(), board.toBitboards());
+        assertEquals(fresh.getZobristKey(), board.getZobristKey());
+        assertEquals(fresh.getPawnKey(), board.getPawnKey());
+        assertEquals(fresh.getMiddlegameScore(), board.getMiddlegameScore());
+        assertEquals(fresh.getPhase(), board.getPhase());
+        assertEquals(16, board.getLightPieces().size());
+        assertEquals(16, board.getDarkPieces().size());
+        assertNull(board.getLastMove());
+        assertSame(e4, board.getSquare(square("e4")));
+        assertSame(e4, board.getLocationSquareMap().get(Location.of(File.E, 4)));
+
+        play(board, "g1f3", "g8f6", "f3g1", "f6g8");
+        assertEquals(1, board.getRepetitionCount());
+    }
+
+    private List<String> legalMoves(Board board) {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(Move.toString(moves[i]));
+        }
+        return result;
+    }
+
+    private String snapshot(Board board) {
+        StringBuilder builder = new StringBuilder();
+        for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+            AbstractPiece piece = board.getSquare(square).getCurrentPiece();
+            if (piece == null) {
+                builder.append('.');
+                assertFalse(board.getSquare(square).isOccupied());
+                continue;
+            }
+            assertSame(board.getSquare(square), piece.getCurrentSquare());
+            builder.append(piece.getPieceColor().name().charAt(0))
+                    .append(piece.getPieceType().name().charAt(0))
+                    .append(piece.hasMoved() ? '+' : '-')
+                    .append(System.identityHashCode(piece))
+                    .append(' ');
+        }
+        builder.append(board.getSideToMove())
+                .append(System.identityHashCode(board.getLastMove()))
+                .append(' ').append(board.getCastlingRights())
+                .append(' ').append(board.getEnPassantSquare())
+                .append(' ').append(board.getHalfmoveClock())
+                .append(' ').append(board.getFullmoveNumber());
+        for (long[] colorBitboards : board.toBitboards()) {
+            for (long bitboard : colorBitboards) {
+                builder.append(' ').append(bitboard);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.chess.board;
+
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceSquareTablesTest {
+
+    @DisplayName("Başlangıç pozisyonunda iki taraf eşittir ve oyun evresi tamdır")
+    @Test
+    void initialPositionIsBalanced() {
+        Board board = new Board();
+
+        assertEquals(0, board.getMiddlegameScore());
+        assertEquals(0, board.getEndgameScore());
+        assertEquals(PieceSquareTables.MAX_PHASE, board.getPhase());
+        assertEquals(PieceSquareTables.middlegame(PieceColor.LIGHT, PieceType.KNIGHT, 18),
+                -PieceSquareTables.middlegame(PieceColor.DARK, PieceType.KNIGHT, 42));
+    }
+
+    @DisplayName("Hamle yapılıp geri alındıkça artımlı skorlar baştan hesaplananla aynı kalır")
+    @Test
+    void incrementalScoresMatchRecomputedScores() {
+        Random random = new Random(11);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 30; game++) {
+            Board board = new Board();
+            Deque<MoveRecord> records = new ArrayDeque<>();
+            for (int ply = 0; ply < 150; ply++) {
+                int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+                if (count == 0) {
+                    break;
+                }
+                records.push(board.make(moves[random.nextInt(count)]));
+                assertScoresMatch(board);
+            }
+            while (!records.isEmpty()) {
+                board.unmake(records.pop());
+                assertScoresMatch(board);
+            }
+        }
+    }
+
+    private void assertScoresMatch(Board board) {
+        int middlegame = 0;
+        int endgame = 0;
+        int phase = 0;
+        for (PieceColor color : PieceColor.values()) {
+            for (PieceType type : PieceType.values()) {
+                long pieces = board.getPieces(color, type);
+                while (pieces != 0) {
+                    int square = Long.numberOfTrailingZeros(pieces);
+                    middlegame += PieceSquareTables.middlegame(color, type, square);
+                    endgame += PieceSquareTables.endgame(color, type, square);
+                    phase += PieceSquareTables.phase(type);
+                    pieces &= pieces - 1;
+                }
+            }
+        }
+        assertEquals(middlegame, board.getMiddlegameScore());
+        assertEquals(endgame, board.getEndgameScore());
+        assertEquals(phase, board.getPhase());
+    }
+}
@@ -0,0 +1,83 @@
+package com.chess.board;
+
+import com.chess.move.MoveGenerator;
+import com.chess.move.MoveRecord;
+import com.chess.piece.PieceColor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static com.chess.board.BoardFixtures.play;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+    @DisplayName("Artımlı anahtar her hamlede sıfırdan hesaplanan anahtarla aynıdır")
+    @Test
+    void incrementalKeyMatchesRecomputation() {
+        Random random = new Random(7);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 50; game++) {
+            Board board = new Board();
+            assertEquals(board.computeZobristKey(), board.getZobristKey());
+            Deque<MoveRecord> records = new ArrayDeque<>();
+            Deque<Long> keys = new ArrayDeque<>();
+
+            for (int ply = 0; ply < 120; ply++) {
+                int count = MoveGenerator.generateLegal(board, board.getSideToMove(), moves);
+                if (count == 0) {
+                    break;
+                }
+                keys.push(board.getZobristKey());
+                records.push(board.make(moves[random.nextInt(count)]));
+                assertEquals(board.computeZobristKey(), board.getZobristKey());
+                assertEquals(board.computePawnKey(), board.getPawnKey());
+            }
+
+            while (!records.isEmpty()) {
+                board.unmake(records.pop());
+                assertEquals(keys.pop(), board.getZobristKey());
+            }
+            assertEquals(new Board().getPawnKey(), board.getPawnKey());
+        }
+    }
+
+    @DisplayName("Piyon anahtarı yalnızca piyon hamleleriyle değişir")
+    @Test
+    void pawnKeyIgnoresPieceMoves() {
+        Board board = new Board();
+        long initialPawnKey = board.getPawnKey();
+
+        play(board, "g1f3", "b8c6");
+        assertEquals(initialPawnKey, board.getPawnKey());
+
+        play(board, "e2e4");
+        assertNotEquals(initialPawnKey, board.getPawnKey());
+    }
+
+    @DisplayName("Farklı hamle sıralarıyla ulaşılan aynı pozisyon aynı anahtarı verir")
+    @Test
+    void transpositionsShareKey() {
+        Board first = new Board();
+        play(first, "g1f3", "g8f6", "b1c3");
+        Board second = new Board();
+        play(second, "b1c3", "g8f6", "g1f3");
+
+        assertEquals(first.getZobristKey(), second.getZobristKey());
+
+        Board roundTrip = new Board();
+        long initialKey = roundTrip.getZobristKey();
+        play(roundTrip, "g1f3", "g8f6", "f3g1", "f6g8");
+        assertEquals(initialKey, roundTrip.getZobristKey());
+
+        play(roundTrip, "g1f3");
+        assertNotEquals(initialKey, roundTrip.getZobristKey());
+        roundTrip.setSideToMove(PieceColor.LIGHT);
+        assertEquals(roundTrip.computeZobristKey(), roundTrip.getZobristKey());
+    }
+
+}
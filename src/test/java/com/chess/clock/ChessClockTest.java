@@ -0,0 +1,79 @@
+package com.chess.clock;
+
+import com.chess.piece.PieceColor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChessClockTest {
+
+    @DisplayName("Saat hamle yapanın süresini düşer ve artışı ekler")
+    @Test
+    void pressChargesTheMoverAndAddsIncrement() {
+        AtomicLong now = new AtomicLong(1_000);
+        ChessClock clock = new ChessClock(60_000, 2_000, now::get);
+        clock.start(PieceColor.LIGHT);
+
+        now.addAndGet(5_000);
+        assertEquals(55_000, clock.getRemainingMillis(PieceColor.LIGHT));
+        clock.press();
+
+        assertEquals(57_000, clock.getRemainingMillis(PieceColor.LIGHT));
+        assertEquals(PieceColor.DARK, clock.getRunning());
+
+        now.addAndGet(1_500);
+        assertEquals(58_500, clock.getRemainingMillis(PieceColor.DARK));
+        assertEquals(57_000, clock.getRemainingMillis(PieceColor.LIGHT));
+    }
+
+    @DisplayName("Süresi biten taraf düşmüş sayılır")
+    @Test
+    void sideOutOfTimeIsFlagged() {
+        AtomicLong now = new AtomicLong();
+        ChessClock clock = new ChessClock(1_000, 0, now::get);
+        clock.start(PieceColor.DARK);
+
+        now.addAndGet(1_200);
+
+        assertTrue(clock.isFlagged(PieceColor.DARK));
+        assertFalse(clock.isFlagged(PieceColor.LIGHT));
+        assertEquals(0, clock.getRemainingMillis(PieceColor.DARK));
+    }
+
+    @DisplayName("Durdurulan saat işlemeyi bırakır")
+    @Test
+    void stoppedClockNoLongerRuns() {
+        AtomicLong now = new AtomicLong();
+        ChessClock clock = new ChessClock(10_000, 0, now::get);
+        clock.start(PieceColor.LIGHT);
+
+        now.addAndGet(3_000);
+        clock.stop();
+        now.addAndGet(5_000);
+
+        assertNull(clock.getRunning());
+        assertEquals(7_000, clock.getRemainingMillis(PieceColor.LIGHT));
+        assertEquals(10_000, clock.getRemainingMillis(PieceColor.DARK));
+    }
+
+    @DisplayName("Geri alınan hamleden sonra saat sırası gelen tarafta işler")
+    @Test
+    void switchingSidesAfterTakebackChargesTheRightPlayer() {
+        AtomicLong now = new AtomicLong();
+        ChessClock clock = new ChessClock(10_000, 1_000, now::get);
+        clock.start(PieceColor.LIGHT);
+
+        now.addAndGet(2_000);
+        clock.press();
+        now.addAndGet(500);
+        clock.switchTo(PieceColor.LIGHT);
+        now.addAndGet(3_000);
+
+        assertEquals(PieceColor.LIGHT, clock.getRunning());
+        assertEquals(10_000 - 2_000 + 1_000 - 3_000, clock.getRemainingMillis(PieceColor.LIGHT));
+        assertEquals(10_000 - 500, clock.getRemainingMillis(PieceColor.DARK));
+    }
+}
@@ -0,0 +1,239 @@
+package com.chess.move;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import com.chess.common.File;
+import com.chess.common.Location;
+import com.chess.piece.AbstractPiece;
+import com.chess.piece.PieceColor;
+import com.chess.piece.PieceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static com.chess.board.BoardFixtures.square;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    @DisplayName("Başlangıç pozisyonunda her iki taraf da 20 hamle üretir")
+    @Test
+    void initialPositionHasTwentyMovesPerSide() {
+        Board board = new Board();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        assertEquals(20, MoveGenerator.generate(board, PieceColor.LIGHT, moves));
+        assertEquals(20, MoveGenerator.generate(board, PieceColor.DARK, moves));
+    }
+
+    @DisplayName("Paketlenmiş hamleler Location listesiyle aynı hedefleri verir")
+    @Test
+    void packedMovesMatchLocationAdapter() {
+        Board board = new Board();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(board, PieceColor.LIGHT, moves);
+
+        Set<String> packed = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            packed.add(Move.from(moves[i]) + "-" + Move.to(moves[i]));
+        }
+
+        Set<String> adapted = new HashSet<>();
+        for (AbstractPiece piece : board.getLightPieces()) {
+            int from = piece.getCurrentSquare().getLocation().getIndex();
+            for (Location target : piece.getValidMoves(board)) {
+                adapted.add(from + "-" + target.getIndex());
+            }
+        }
+
+        assertEquals(adapted, packed);
+    }
+
+    @DisplayName("Terfi, taş alma ve çift adım bayrakları doğru kodlanır")
+    @Test
+    void moveFlagsAreEncoded() {
+        // a light pawn on a7 with a7-a8 open and a dark rook to take on b8
+        Board board = Fen.parse("1rbqkbnr/Pppppppp/8/8/8/8/1PPPPPPP/RNBQKBNR w KQk - 0 1");
+        int a7 = square("a7");
+        int b8 = square("b8");
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = board.getSquare(a7).getCurrentPiece().generateMoves(board, a7, moves, 0);
+
+        assertEquals(8, count);
+        for (int i = 0; i < count; i++) {
+            assertTrue(Move.isPromotion(moves[i]));
+            assertEquals(Move.to(moves[i]) == b8, Move.isCapture(moves[i]));
+        }
+        assertEquals(PieceType.QUEEN, Move.promotionType(moves[0]));
+
+        int e2 = square("e2");
+        count = board.getSquare(e2).getCurrentPiece().generateMoves(board, e2, moves, 0);
+        assertEquals(2, count);
+        assertEquals(Move.DOUBLE_PAWN_PUSH, Move.flags(moves[1]));
+        assertEquals("e2e4", Move.toString(moves[1]));
+    }
+
+    @DisplayName("Şah tehdit altındaki kareye gidemez")
+    @Test
+    void kingCannotStepIntoCheck() {
+        Board board = Fen.parse("3r3k/8/8/8/8/8/8/4K3 w - - 0 1");
+
+        Set<String> legal = legalMoves(board, PieceColor.LIGHT);
+
+        assertEquals(Set.of("e1e2", "e1f1", "e1f2"), legal);
+    }
+
+    @DisplayName("Açmaza alınmış taş yalnızca açmaz hattı boyunca oynayabilir")
+    @Test
+    void pinnedPiecesStayOnThePinLine() {
+        Board board = Fen.parse("k3r3/8/8/8/8/8/4B3/4K3 w - - 0 1");
+
+        Set<String> legal = legalMoves(board, PieceColor.LIGHT);
+
+        assertTrue(legal.stream().noneMatch(move -> move.startsWith("e2")));
+    }
+
+    @DisplayName("Tehdit altındaki kareden geçerek rok yapılamaz")
+    @Test
+    void castlingThroughAttackedSquareIsRejected() {
+        Board board = Fen.parse("3k1r2/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+
+        Set<String> legal = legalMoves(board, PieceColor.LIGHT);
+
+        assertFalse(legal.contains("e1g1"));
+        assertTrue(legal.contains("e1c1"));
+    }
+
+    @DisplayName("Şah çekildiğinde yalnızca kaçış, araya girme ve alma hamleleri kalır")
+    @Test
+    void checkLimitsMovesToEvasions() {
+        Board board = Fen.parse("4r2k/8/8/1B6/R7/8/8/4K3 w - - 0 1");
+
+        Set<String> legal = legalMoves(board, PieceColor.LIGHT);
+
+        assertEquals(Set.of("e1d1", "e1d2", "e1f1", "e1f2", "a4e4", "b5e2", "b5e8"), legal);
+    }
+
+    @DisplayName("Şahı yatay hatta açan en passant hamlesi üretilmez")
+    @Test
+    void enPassantExposingKingOnRankIsRejected() {
+        Board board = Fen.parse("7k/8/8/K2pP2r/8/8/8/8 w - d6 0 1");
+        AbstractPiece lightPawn = board.getSquare(square("e5")).getCurrentPiece();
+
+        assertTrue(lightPawn.getValidMoves(board).contains(Location.of(File.D, 6)));
+        assertFalse(legalMoves(board, PieceColor.LIGHT).contains("e5d6"));
+    }
+
+    @DisplayName("Şah tehdit altındaki kareden geçerek veya şah çekilmişken rok yapamaz")
+    @Test
+    void castlingIsRejectedThroughAttackedSquares() {
+        Board board = Fen.parse("3k1r2/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+
+        Set<String> legal = legalMoves(board, PieceColor.LIGHT);
+        assertFalse(legal.contains("e1g1"));
+        assertTrue(legal.contains("e1c1"));
+        assertFalse(board.getSquare(square("e1")).getCurrentPiece().getValidMoves(board).contains(Location.of(File.G, 1)));
+        assertFalse(MoveGenerator.isLegal(board, PieceColor.LIGHT, Move.of(4, 6, Move.KING_CASTLE)));
+        assertTrue(MoveGenerator.isLegal(board, PieceColor.LIGHT, Move.of(4, 2, Move.QUEEN_CASTLE)));
+
+        // the rook on b8 only covers b1, which the king never crosses
+        board = Fen.parse("1r1k4/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        legal = legalMoves(board, PieceColor.LIGHT);
+        assertTrue(legal.contains("e1g1"));
+        assertTrue(legal.contains("e1c1"));
+
+        board = Fen.parse("3kr3/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        legal = legalMoves(board, PieceColor.LIGHT);
+        assertFalse(legal.contains("e1g1"));
+        assertFalse(legal.contains("e1c1"));
+        assertFalse(MoveGenerator.isLegal(board, PieceColor.LIGHT, Move.of(4, 2, Move.QUEEN_CASTLE)));
+
+        // without the rights the same empty path gives no castling at all
+        board = Fen.parse("1r1k4/8/8/8/8/8/8/R3K2R w - - 0 1");
+        legal = legalMoves(board, PieceColor.LIGHT);
+        assertFalse(legal.contains("e1g1"));
+        assertFalse(legal.contains("e1c1"));
+    }
+
+    @DisplayName("Önce alışlar sonra sessiz hamleler üretmek tüm yasal hamleleri verir")
+    @Test
+    void stagedGenerationMatchesFullGeneration() {
+        Random random = new Random(7);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] staged = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 20; game++) {
+            Board board = new Board();
+            for (int ply = 0; ply < 80; ply++) {
+                PieceColor side = board.getSideToMove();
+                int count = MoveGenerator.generateLegal(board, side, moves);
+                if (count == 0) {
+                    break;
+                }
+
+                int captureCount = MoveGenerator.generateLegalCaptures(board, side, staged, 0);
+                int stagedCount = MoveGenerator.generateLegalQuiets(board, side, staged, captureCount);
+                Set<Integer> expected = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    expected.add(moves[i]);
+                    assertTrue(MoveGenerator.isLegal(board, side, moves[i]));
+                }
+                Set<Integer> actual = new HashSet<>();
+                for (int i = 0; i < stagedCount; i++) {
+                    actual.add(staged[i]);
+                    assertEquals(i < captureCount, Move.isCapture(staged[i]) || Move.isPromotion(staged[i]));
+                }
+                assertEquals(count, stagedCount);
+                assertEquals(expected, actual);
+
+                board.make(moves[random.nextInt(count)]);
+            }
+        }
+    }
+
+    @DisplayName("Dışarıdan gelen hamle yalnızca üretilen yasal hamlelerden biriyse kabul edilir")
+    @Test
+    void isLegalAcceptsExactlyTheGeneratedMoves() {
+        Random random = new Random(11);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < 6; game++) {
+            Board board = new Board();
+            for (int ply = 0; ply < 100; ply++) {
+                PieceColor side = board.getSideToMove();
+                int count = MoveGenerator.generateLegal(board, side, moves);
+                if (count == 0) {
+                    break;
+                }
+
+                if (ply % 5 == 0) {
+                    Set<Integer> legal = new HashSet<>();
+                    for (int i = 0; i < count; i++) {
+                        legal.add(moves[i]);
+                    }
+                    // every from, to and flag combination, so stale hash moves of any shape are covered
+                    for (int move = 1; move < 1 << 16; move++) {
+                        assertEquals(legal.contains(move), MoveGenerator.isLegal(board, side, move), Move.toString(move));
+                    }
+                }
+
+                board.make(moves[random.nextInt(count)]);
+            }
+        }
+    }
+
+    private Set<String> legalMoves(Board board, PieceColor color) {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(board, color, moves);
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            result.add(Move.toString(moves[i]));
+        }
+        return result;
+    }
+
+}
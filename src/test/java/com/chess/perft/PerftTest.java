@@ -0,0 +1,64 @@
+package com.chess.perft;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    @DisplayName("Başlangıç pozisyonu bilinen perft değerlerini üretir")
+    @Test
+    void initialPositionMatchesReferenceCounts() {
+        Perft perft = new Perft();
+        Board board = new Board();
+
+        assertEquals(20, perft.count(board, 1));
+        assertEquals(400, perft.count(board, 2));
+        assertEquals(8_902, perft.count(board, 3));
+        assertEquals(197_281, perft.count(board, 4));
+    }
+
+    @DisplayName("Paralel divide çıktısı sıralı sayımla aynı toplamı verir")
+    @Test
+    void parallelDivideMatchesSequentialCount() {
+        Board board = new Board();
+
+        PerftResult result = new Perft(4, 0).divide(board, 4);
+
+        assertEquals(20, result.getDivide().size());
+        assertEquals(197_281, result.getNodes());
+        assertEquals(result.getNodes(), result.getDivide().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(13_160L, result.getDivide().get("e2e4"));
+    }
+
+    @DisplayName("Hash tablosu sonuçları değiştirmeden tekrar eden alt ağaçları atlar")
+    @Test
+    void hashTableKeepsCountsIntact() {
+        assertEquals(4_865_609, new Perft(2, 16).divide(new Board(), 5).getNodes());
+    }
+
+    @DisplayName("Kiwipete pozisyonu rok, en passant ve terfi kurallarını doğrular")
+    @Test
+    void kiwipeteMatchesReferenceCounts() {
+        Perft perft = new Perft();
+        Board board = Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+
+        assertEquals(48, perft.count(board, 1));
+        assertEquals(2_039, perft.count(board, 2));
+        assertEquals(97_862, perft.count(board, 3));
+        assertEquals(4_085_603, new Perft(2, 16).divide(board, 4).getNodes());
+    }
+
+    @DisplayName("Zor uç durum pozisyonları bilinen perft değerlerini üretir")
+    @Test
+    void edgeCasePositionsMatchReferenceCounts() {
+        Perft perft = new Perft();
+
+        assertEquals(674_624, perft.count(Fen.parse("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 5));
+        assertEquals(422_333, perft.count(Fen.parse("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 4));
+        assertEquals(62_379, perft.count(Fen.parse("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"), 3));
+    }
+}
@@ -331,12 +331,12 @@ class PieceMovementTest {
         Pawn blackPawn = new Pawn(PieceColor.DARK);
         placePiece(blackPawn, File.D, 5);
 
-        MoveRecord lastMove = MoveRecord.builder(blackPawn, new Location(File.D, 7), new Location(File.D, 5))
+        MoveRecord lastMove = MoveRecord.builder(blackPawn, Location.of(File.D, 7), Location.of(File.D, 5))
                 .pawnDoubleAdvance(true)
                 .build();
         board.setLastMove(lastMove);
 
-        Location enPassantTarget = new Location(File.D, 6);
+        Location enPassantTarget = Location.of(File.D, 6);
         assertTrue(whitePawn.getValidMoves(board).contains(enPassantTarget));
 
         Square targetSquare = getSquare(File.D, 6);
@@ -374,7 +374,7 @@ class PieceMovementTest {
     }
 
     private Location loc(File file, int rank) {
-        return new Location(file, rank);
+        return Location.of(file, rank);
     }
 
     private Set<Location> setOf(Location... locations) {
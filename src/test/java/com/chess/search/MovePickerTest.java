@@ -0,0 +1,104 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import com.chess.move.Move;
+import com.chess.move.MoveGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovePickerTest {
+    // Italian game after ten moves each: captures, quiet moves and every piece type on the board
+    private static final String MIDDLEGAME = "r4rk1/1ppq2pp/p1nppn2/2b1p3/P3P3/1QPP1N2/1P1N1PPP/R1B2RK1 w - - 2 11";
+
+    @DisplayName("Sıralayıcı her yasal hamleyi bir kez verir, önce hash hamlesini sonra alışları")
+    @Test
+    void picksEveryLegalMoveOnceInStageOrder() {
+        Board board = Fen.parse(MIDDLEGAME);
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        int legalCount = MoveGenerator.generateLegal(board, board.getSideToMove(), legal);
+        int hashMove = firstQuiet(legal, legalCount);
+        int killer = lastQuiet(legal, legalCount);
+
+        MovePicker picker = new MovePicker();
+        picker.reset(board, hashMove, new int[]{killer, Move.NONE}, new int[64][64]);
+        List<Integer> picked = new ArrayList<>();
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            picked.add(move);
+        }
+
+        assertEquals(legalCount, picked.size());
+        assertEquals(legalCount, new HashSet<>(picked).size());
+        assertEquals(hashMove, picked.get(0));
+
+        // captures come straight after the hash move, then the killer, then the other quiet moves
+        int index = 1;
+        while (MovePicker.isNoisy(picked.get(index))) {
+            index++;
+        }
+        assertEquals(killer, picked.get(index));
+        for (int i = index + 1; i < picked.size(); i++) {
+            assertFalse(MovePicker.isNoisy(picked.get(i)));
+        }
+    }
+
+    @DisplayName("Alışlar en değerli kurbandan başlayarak sıralanır")
+    @Test
+    void capturesAreOrderedByVictimValue() {
+        Board board = Fen.parse(MIDDLEGAME);
+        MovePicker picker = new MovePicker();
+        picker.reset(board, Move.NONE, new int[2], new int[64][64]);
+
+        int previousVictim = Integer.MAX_VALUE;
+        int move;
+        while ((move = picker.next()) != Move.NONE && MovePicker.isNoisy(move)) {
+            int victim = Evaluation.pieceValue(board.getSquare(Move.to(move)).getCurrentPiece().getPieceType());
+            assertTrue(victim <= previousVictim);
+            previousVictim = victim;
+        }
+    }
+
+    @DisplayName("Geçersiz hash hamlesi atlanır")
+    @Test
+    void illegalHashMoveIsSkipped() {
+        Board board = new Board();
+        int illegal = Move.of(0, 63, Move.QUIET);
+        MovePicker picker = new MovePicker();
+        picker.reset(board, illegal, new int[2], new int[64][64]);
+
+        Set<Integer> picked = new HashSet<>();
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            picked.add(move);
+        }
+
+        assertFalse(picked.contains(illegal));
+        assertEquals(20, picked.size());
+    }
+
+    private int firstQuiet(int[] moves, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!MovePicker.isNoisy(moves[i])) {
+                return moves[i];
+            }
+        }
+        return Move.NONE;
+    }
+
+    private int lastQuiet(int[] moves, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (!MovePicker.isNoisy(moves[i])) {
+                return moves[i];
+            }
+        }
+        return Move.NONE;
+    }
+}
@@ -0,0 +1,69 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PawnTableTest {
+
+    @DisplayName("Aynı piyon yapısı ikinci kez tablodan okunur")
+    @Test
+    void repeatedPawnStructureHitsTheTable() {
+        PawnTable table = new PawnTable(1024);
+        Board board = new Board();
+
+        long first = table.evaluate(board);
+        long second = table.evaluate(board);
+
+        assertEquals(first, second);
+        assertEquals(PawnStructure.evaluate(board), second);
+        assertEquals(1, table.getHits());
+        assertEquals(1, table.getMisses());
+    }
+
+    @DisplayName("Katmerli ve izole piyonlar ceza alır")
+    @Test
+    void doubledIsolatedPawnsArePenalised() {
+        long terms = PawnStructure.evaluate(Fen.parse("6k1/1ppp4/8/8/8/2P5/2P5/6K1 w - - 0 1"));
+
+        assertTrue(PawnStructure.middlegame(terms) < 0);
+        assertTrue(PawnStructure.endgame(terms) < 0);
+    }
+
+    @DisplayName("İlerlemiş geçer piyon oyun sonunda daha değerlidir")
+    @Test
+    void advancedPassedPawnIsWorthMore() {
+        int nearScore = PawnStructure.endgame(PawnStructure.evaluate(Fen.parse("6k1/8/4P3/8/8/8/8/6K1 w - - 0 1")));
+        int farScore = PawnStructure.endgame(PawnStructure.evaluate(Fen.parse("6k1/8/8/8/8/4P3/8/6K1 w - - 0 1")));
+        int blockedScore = PawnStructure.endgame(PawnStructure.evaluate(Fen.parse("6k1/3p4/4P3/8/8/8/8/6K1 w - - 0 1")));
+
+        assertTrue(nearScore > farScore);
+        assertTrue(farScore > 0);
+        assertTrue(nearScore > blockedScore);
+    }
+
+    @DisplayName("Renkler yer değiştirince piyon puanı işaret değiştirir")
+    @Test
+    void mirroredStructureNegatesTheScore() {
+        long lightTerms = PawnStructure.evaluate(Fen.parse("6k1/8/4p3/3P4/P2P4/8/8/6K1 w - - 0 1"));
+        long darkTerms = PawnStructure.evaluate(Fen.parse("6k1/8/8/p2p4/3p4/4P3/8/6K1 w - - 0 1"));
+
+        assertEquals(PawnStructure.middlegame(lightTerms), -PawnStructure.middlegame(darkTerms));
+        assertEquals(PawnStructure.endgame(lightTerms), -PawnStructure.endgame(darkTerms));
+    }
+
+    @DisplayName("Orta oyun aramasında piyon tablosu isabet oranı yüksektir")
+    @Test
+    void middlegameSearchMostlyHitsThePawnTable() {
+        // Italian game after ten moves each
+        Board board = Fen.parse("r4rk1/1ppq2pp/p1nppn2/2b1p3/P3P3/1QPP1N2/1P1N1PPP/R1B2RK1 w - - 2 11");
+
+        SearchResult result = new Search(new TranspositionTable(16)).search(board, 6, 60_000);
+
+        assertTrue(result.getPawnTableHitRate() > 0.85, () -> "isabet oranı " + result.getPawnTableHitRate());
+    }
+
+}
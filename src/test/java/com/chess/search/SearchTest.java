@@ -0,0 +1,140 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import com.chess.move.Move;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTest {
+
+    @DisplayName("Arama tek hamlede matı bulur")
+    @Test
+    void findsMateInOne() {
+        Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+        SearchResult result = new Search(new TranspositionTable(1)).search(board, 4, 5_000);
+
+        assertEquals("a1a8", Move.toString(result.getBestMove()));
+        assertTrue(result.isMateScore());
+        assertEquals(Search.MATE - 1, result.getScore());
+    }
+
+    @DisplayName("Arama korumasız vezni alır")
+    @Test
+    void capturesHangingQueen() {
+        Board board = Fen.parse("4k3/8/8/3q4/8/2N5/8/4K3 w - - 0 1");
+
+        SearchResult result = new Search(new TranspositionTable(1)).search(board, 3, 5_000);
+
+        assertEquals("c3d5", Move.toString(result.getBestMove()));
+        assertTrue(result.getScore() > 0);
+    }
+
+    @DisplayName("Ufuk derinliğinde korunan piyon için vezir verilmez")
+    @Test
+    void quiescenceAvoidsHorizonBlunder() {
+        Board board = Fen.parse("7k/8/4p3/3p4/8/8/8/K2Q4 w - - 0 1");
+
+        SearchResult result = new Search(new TranspositionTable(1)).search(board, 1, 5_000);
+
+        assertNotEquals("d1d5", Move.toString(result.getBestMove()));
+        assertTrue(result.getScore() > 500);
+    }
+
+    @DisplayName("Budamalar tek tek kapatılabilir ve hepsi açıkken daha az düğüm aranır")
+    @Test
+    void pruningSwitchesCanBeTurnedOff() {
+        SearchOptions none = SearchOptions.builder()
+                .nullMovePruning(false)
+                .lateMoveReductions(false)
+                .aspirationWindows(false)
+                .build();
+        Board board = new Board();
+
+        SearchResult plain = new Search(new TranspositionTable(16), 1, none).search(board, 5, 60_000);
+        SearchResult pruned = new Search(new TranspositionTable(16), 1, SearchOptions.defaults()).search(board, 5, 60_000);
+
+        assertEquals(5, plain.getDepth());
+        assertEquals(5, pruned.getDepth());
+        assertTrue(pruned.getNodes() < plain.getNodes());
+        assertTrue(pruned.getEffectiveBranchingFactor() < plain.getEffectiveBranchingFactor());
+        assertTrue(plain.getHashfull() > 0 && plain.getHashfull() <= 1000);
+    }
+
+    @DisplayName("Süre dolduğunda arama tamamlanan son derinliğin hamlesini döner")
+    @Test
+    void stopsWhenTimeRunsOut() {
+        Board board = new Board();
+        long zobristKey = board.getZobristKey();
+
+        SearchResult result = new Search(new TranspositionTable(1)).search(board, 64, 200);
+
+        assertNotEquals(Move.NONE, result.getBestMove());
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(result.getElapsedMillis() < 2_000);
+        assertEquals(zobristKey, board.getZobristKey());
+    }
+
+    @DisplayName("Çok iş parçacıklı arama aynı matı bulur ve pozisyonu bozmaz")
+    @Test
+    void lazySmpFindsSameMate() {
+        Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        long zobristKey = board.getZobristKey();
+
+        SearchResult result = new Search(new TranspositionTable(4), 4).search(board, 5, 5_000);
+
+        assertEquals("a1a8", Move.toString(result.getBestMove()));
+        assertEquals(Search.MATE - 1, result.getScore());
+        assertEquals(zobristKey, board.getZobristKey());
+    }
+
+    @DisplayName("Saate göre ayrılan süre kalan süreyi ve yumuşak hedefi aşmaz")
+    @Test
+    void clockAllocationStaysWithinRemainingTime() {
+        SearchLimits rapid = SearchLimits.forClock(64, 600_000, 5_000);
+        assertTrue(rapid.getSoftTimeMillis() >= 20_000 && rapid.getSoftTimeMillis() < 60_000);
+        assertTrue(rapid.getHardTimeMillis() >= rapid.getSoftTimeMillis());
+        assertTrue(rapid.getHardTimeMillis() < 600_000);
+
+        SearchLimits scramble = SearchLimits.forClock(64, 300, 0);
+        assertTrue(scramble.getHardTimeMillis() < 300);
+        assertTrue(scramble.getSoftTimeMillis() >= 1);
+    }
+
+    @DisplayName("İptal edilen arama hemen döner ve tamamlanan son derinliğin hamlesini verir")
+    @Test
+    void cancelledSearchReturnsLastCompletedIteration() throws Exception {
+        Board board = new Board();
+        Search search = new Search(new TranspositionTable(16));
+        SearchResult[] result = new SearchResult[1];
+        Thread searcher = new Thread(() -> result[0] = search.search(board, SearchLimits.builder().build()));
+
+        searcher.start();
+        Thread.sleep(200);
+        search.cancel();
+        searcher.join(2_000);
+
+        assertFalse(searcher.isAlive());
+        assertNotEquals(Move.NONE, result[0].getBestMove());
+        assertTrue(result[0].getDepth() >= 1);
+    }
+
+    @DisplayName("Başlamadan önce iptal edilen arama beklemeden yasal bir hamle döner")
+    @Test
+    void cancelBeforeSearchIsNotLost() {
+        Board board = new Board();
+        Search search = new Search(new TranspositionTable(16));
+
+        search.cancel();
+        long start = System.currentTimeMillis();
+        SearchResult result = search.search(board, SearchLimits.of(Search.MAX_PLY, 60_000));
+
+        assertTrue(System.currentTimeMillis() - start < 1_000);
+        assertNotEquals(Move.NONE, result.getBestMove());
+        assertEquals(5, search.search(board, 5, 60_000).getDepth());
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.chess.search;
+
+import com.chess.board.Board;
+import com.chess.board.Fen;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.chess.board.BoardFixtures.move;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticExchangeTest {
+    private final int[] gains = new int[StaticExchange.MAX_EXCHANGES];
+
+    @DisplayName("Korumasız taşı almak taşın değerini kazandırır")
+    @Test
+    void undefendedPieceIsWonOutright() {
+        Board board = Fen.parse("7k/8/8/3n4/8/8/8/K2R4 w - - 0 1");
+
+        assertEquals(320, StaticExchange.evaluate(board, move(board, "d1d5"), gains));
+    }
+
+    @DisplayName("Piyonla korunan piyonu vezirle almak vezni kaybettirir")
+    @Test
+    void queenTakingDefendedPawnLosesTheQueen() {
+        Board board = Fen.parse("7k/8/4p3/3p4/8/8/8/K2Q4 w - - 0 1");
+
+        assertEquals(100 - 900, StaticExchange.evaluate(board, move(board, "d1d5"), gains));
+    }
+
+    @DisplayName("Arkadaki vezir de hesaba katılır")
+    @Test
+    void sliderBehindTheCapturerJoinsTheExchange() {
+        Board board = Fen.parse("7k/4r3/8/4n3/8/8/4R3/K3Q3 w - - 0 1");
+
+        assertEquals(320, StaticExchange.evaluate(board, move(board, "e2e5"), gains));
+    }
+
+    @DisplayName("Karşılıklı piyon değişimi sıfırla sonuçlanır")
+    @Test
+    void evenTradeIsWorthNothing() {
+        Board board = Fen.parse("7k/4q3/8/4p3/3P4/8/8/K7 w - - 0 1");
+
+        assertEquals(0, StaticExchange.evaluate(board, move(board, "d4e5"), gains));
+    }
+
+}
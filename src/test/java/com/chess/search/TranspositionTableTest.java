@@ -0,0 +1,133 @@
+package com.chess.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @DisplayName("Saklanan kayıt aynı anahtarla geri okunur")
+    @Test
+    void storedEntryIsReturnedForSameKey() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        table.store(key, 0x1ABC, -350, 7, TranspositionTable.BOUND_LOWER);
+        long data = table.probe(key);
+
+        assertNotEquals(TranspositionTable.MISS, data);
+        assertEquals(0x1ABC, TranspositionTable.move(data));
+        assertEquals(-350, TranspositionTable.score(data));
+        assertEquals(7, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(data));
+        assertEquals(TranspositionTable.MISS, table.probe(key ^ 1L << 40));
+    }
+
+    @DisplayName("Aynı pozisyon için sığ sonuç derin sonucun üzerine yazılmaz")
+    @Test
+    void shallowResultDoesNotReplaceDeepOne() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 42L;
+
+        table.store(key, 100, 20, 12, TranspositionTable.BOUND_LOWER);
+        table.store(key, 0, 5, 3, TranspositionTable.BOUND_UPPER);
+        assertEquals(12, TranspositionTable.depth(table.probe(key)));
+
+        table.store(key, 0, 5, 3, TranspositionTable.BOUND_EXACT);
+        long data = table.probe(key);
+        assertEquals(3, TranspositionTable.depth(data));
+        assertEquals(100, TranspositionTable.move(data), "hamlesiz kayıt önceki en iyi hamleyi korur");
+    }
+
+    @DisplayName("Doluluk oranı bu aramada yazılan kayıtları sayar")
+    @Test
+    void hashfullCountsEntriesOfTheCurrentSearch() {
+        TranspositionTable table = new TranspositionTable(1);
+        assertEquals(0, table.hashfull());
+
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < table.capacity(); i++) {
+            table.store(random.nextLong(), 0, 0, 1, TranspositionTable.BOUND_EXACT);
+        }
+        int full = table.hashfull();
+        assertTrue(full > 500 && full <= 1000, () -> "doluluk " + full);
+
+        // older entries stay usable but no longer count as written by this search
+        table.newSearch();
+        assertEquals(0, table.hashfull());
+        table.clear();
+        assertEquals(0, table.hashfull());
+    }
+
+    @DisplayName("Dolu kovada en sığ ve en eski kayıt değiştirilir")
+    @Test
+    void replacementPrefersShallowAndStaleEntries() {
+        TranspositionTable table = new TranspositionTable(1);
+        int buckets = table.capacity() / 4;
+        long[] keys = new long[5];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 3L + (long) i * buckets;
+        }
+
+        table.store(keys[0], 1, 0, 10, TranspositionTable.BOUND_EXACT);
+        table.store(keys[1], 1, 0, 2, TranspositionTable.BOUND_EXACT);
+        table.store(keys[2], 1, 0, 9, TranspositionTable.BOUND_EXACT);
+        table.store(keys[3], 1, 0, 8, TranspositionTable.BOUND_EXACT);
+        table.store(keys[4], 1, 0, 6, TranspositionTable.BOUND_EXACT);
+
+        assertEquals(TranspositionTable.MISS, table.probe(keys[1]));
+        assertNotEquals(TranspositionTable.MISS, table.probe(keys[0]));
+        assertNotEquals(TranspositionTable.MISS, table.probe(keys[4]));
+
+        table.newSearch();
+        table.newSearch();
+        long fresh = 3L + 5L * buckets;
+        table.store(fresh, 1, 0, 1, TranspositionTable.BOUND_EXACT);
+        assertNotEquals(TranspositionTable.MISS, table.probe(fresh));
+    }
+
+    @DisplayName("Eşzamanlı yazma ve okumalarda bozuk kayıt döndürülmez")
+    @Test
+    void concurrentAccessNeverReturnsTornEntries() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1);
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    long key = random.nextLong(4096) * 0x9E37_79B9_7F4A_7C15L;
+                    if (random.nextBoolean()) {
+                        table.store(key, expectedMove(key), expectedScore(key), random.nextInt(1, 30), TranspositionTable.BOUND_EXACT);
+                    } else {
+                        long data = table.probe(key);
+                        if (data != TranspositionTable.MISS && (TranspositionTable.move(data) != expectedMove(key)
+                                || TranspositionTable.score(data) != expectedScore(key))) {
+                            failed.set(true);
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(failed.get());
+    }
+
+    private static int expectedMove(long key) {
+        return (int) (key >>> 48) & 0xFFFF;
+    }
+
+    private static int expectedScore(long key) {
+        return (short) (key >>> 20);
+    }
+}